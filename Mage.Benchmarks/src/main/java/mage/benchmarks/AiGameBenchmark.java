@@ -0,0 +1,33 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full games between two AI players, measures everything together: AI simulations, game copies,
+ * effects, triggers and state checks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 1, time = 60)
+@Measurement(iterations = 3, time = 60)
+@Fork(1)
+public class AiGameBenchmark {
+
+    private Game game;
+
+    // new players for every game, AI players lose their think time limit on game copy
+    @Setup(Level.Invocation)
+    public void setup() {
+        game = BoardFixture.createDuel();
+    }
+
+    @Benchmark
+    public String playGame() {
+        game.start(game.getPlayerList().get());
+        return game.getWinner();
+    }
+}
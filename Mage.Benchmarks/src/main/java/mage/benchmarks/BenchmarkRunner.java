@@ -0,0 +1,48 @@
+package mage.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Runs the engine benchmarks, results are written as JSON to jmh-result.json
+ * <p>
+ * Usage: {@code java -jar target/benchmarks.jar [jmh options] [benchmark regexp]}, e.g.
+ * {@code java -jar target/benchmarks.jar GameStateBenchmark -rff base.json}. All JMH command line
+ * options are supported ({@code -h} for the list), the result format and file are only defaults.
+ * The full AI games benchmark takes several minutes, exclude it with {@code -e AiGameBenchmark}.
+ */
+public final class BenchmarkRunner {
+
+    private static final String RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(RESULT_FILE);
+        }
+        Runner runner = new Runner(options.build());
+        if (commandLine.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package mage.benchmarks;
+
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.CardSetInfo;
+import mage.cards.a.ArcaneSanctum;
+import mage.cards.b.BirdsOfParadise;
+import mage.cards.b.BorosSignet;
+import mage.cards.basiclands.Forest;
+import mage.cards.basiclands.Mountain;
+import mage.cards.c.CityOfBrass;
+import mage.cards.decks.Deck;
+import mage.cards.f.FireLitThicket;
+import mage.cards.g.GiantGrowth;
+import mage.cards.g.GloriousAnthem;
+import mage.cards.g.GrizzlyBears;
+import mage.cards.i.IndathaTriome;
+import mage.cards.j.JungleShrine;
+import mage.cards.l.LightningBolt;
+import mage.cards.l.LlanowarElves;
+import mage.cards.m.MysticGate;
+import mage.cards.r.RuggedPrairie;
+import mage.cards.s.SeasideCitadel;
+import mage.cards.s.ShivanDragon;
+import mage.cards.s.SimicSignet;
+import mage.cards.s.SolRing;
+import mage.cards.s.SoulWarden;
+import mage.cards.s.SunkenRuins;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.constants.Rarity;
+import mage.game.Game;
+import mage.game.GameOptions;
+import mage.game.TwoPlayerDuel;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.match.MatchPlayer;
+import mage.game.mulligan.MulliganType;
+import mage.game.permanent.PermanentCard;
+import mage.player.ai.ComputerPlayer;
+import mage.player.ai.ComputerPlayer7;
+import mage.players.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Games for the benchmarks, built from set cards without the card database
+ * <p>
+ * The board game is paused in the first main phase of turn 1. Both players control the same
+ * permanents: lands, mana creatures, creatures, a static +1/+1 effect and a triggered ability,
+ * and hold spells that need targets and mana. The duel game isn't started, benchmarks play
+ * it to the end with two AI players.
+ */
+public final class BoardFixture {
+
+    private static final int AI_SKILL = 1;
+
+    private BoardFixture() {
+    }
+
+    public static Game createBoard() {
+        Game game = createGame();
+        Match match = createMatch();
+        Player playerA = addPlayer(game, match, new ComputerPlayer("PlayerA", RangeOfInfluence.ALL), createLibrary());
+        addPlayer(game, match, new ComputerPlayer("PlayerB", RangeOfInfluence.ALL), createLibrary());
+        for (Player player : game.getPlayers().values()) {
+            player.setTestMode(true);
+            player.updateRange(game);
+            game.cheat(player.getId(), Collections.emptyList(), createHand(), createBattlefield(player, game),
+                    Collections.emptyList(), Collections.emptyList());
+        }
+
+        GameOptions options = new GameOptions();
+        options.testMode = true;
+        options.stopOnTurn = 1;
+        options.stopAtStep = PhaseStep.PRECOMBAT_MAIN;
+        game.setGameOptions(options);
+        game.start(playerA.getId());
+        return game;
+    }
+
+    /**
+     * Board game with a five colors mana base added to the active player: tri-lands, triomes,
+     * any color sources, filter lands and signets (mana abilities with costs)
+     */
+    public static Game createManaBaseBoard() {
+        Game game = createBoard();
+        Player player = game.getPlayer(game.getActivePlayerId());
+        game.cheat(player.getId(), Collections.emptyList(), Collections.emptyList(), createManaBase(player, game),
+                Collections.emptyList(), Collections.emptyList());
+        game.applyEffects();
+        return game;
+    }
+
+    /**
+     * @return not started game
+     */
+    public static Game createDuel() {
+        Game game = createGame();
+        Match match = createMatch();
+        addPlayer(game, match, new ComputerPlayer7("PlayerA", RangeOfInfluence.ALL, AI_SKILL), createDeck());
+        addPlayer(game, match, new ComputerPlayer7("PlayerB", RangeOfInfluence.ALL, AI_SKILL), createDeck());
+
+        GameOptions options = new GameOptions();
+        options.testMode = false;
+        game.setGameOptions(options);
+        return game;
+    }
+
+    private static Game createGame() {
+        return new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 20);
+    }
+
+    private static Match createMatch() {
+        MatchOptions matchOptions = new MatchOptions("Benchmark", "TwoPlayerDuel", false, 2);
+        matchOptions.setAttackOption(MultiplayerAttackOption.LEFT);
+        matchOptions.setMullgianType(MulliganType.GAME_DEFAULT);
+        return new TwoPlayerMatch(matchOptions);
+    }
+
+    private static Player addPlayer(Game game, Match match, Player player, Deck deck) {
+        player.setMatchPlayer(new MatchPlayer(player, deck, match));
+        game.addPlayer(player, deck);
+        game.loadCards(deck.getCards(), player.getId());
+        return player;
+    }
+
+    private static Deck createLibrary() {
+        Deck deck = new Deck();
+        for (int i = 0; i < 20; i++) {
+            deck.getCards().add(card(Forest.class, "Forest"));
+        }
+        return deck;
+    }
+
+    private static Deck createDeck() {
+        Deck deck = new Deck();
+        for (int i = 0; i < 4; i++) {
+            deck.getCards().add(card(LlanowarElves.class, "Llanowar Elves"));
+            deck.getCards().add(card(GrizzlyBears.class, "Grizzly Bears"));
+            deck.getCards().add(card(SoulWarden.class, "Soul Warden"));
+            deck.getCards().add(card(LightningBolt.class, "Lightning Bolt"));
+            deck.getCards().add(card(GiantGrowth.class, "Giant Growth"));
+        }
+        for (int i = 0; i < 2; i++) {
+            deck.getCards().add(card(GloriousAnthem.class, "Glorious Anthem"));
+            deck.getCards().add(card(ShivanDragon.class, "Shivan Dragon"));
+        }
+        for (int i = 0; i < 9; i++) {
+            deck.getCards().add(card(Forest.class, "Forest"));
+            deck.getCards().add(card(Mountain.class, "Mountain"));
+        }
+        return deck;
+    }
+
+    private static List<Card> createHand() {
+        List<Card> hand = new ArrayList<>();
+        hand.add(card(LightningBolt.class, "Lightning Bolt"));
+        hand.add(card(GiantGrowth.class, "Giant Growth"));
+        hand.add(card(GrizzlyBears.class, "Grizzly Bears"));
+        hand.add(card(ShivanDragon.class, "Shivan Dragon"));
+        return hand;
+    }
+
+    private static List<PermanentCard> createBattlefield(Player player, Game game) {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            cards.add(card(Forest.class, "Forest"));
+            cards.add(card(Mountain.class, "Mountain"));
+            cards.add(card(GrizzlyBears.class, "Grizzly Bears"));
+        }
+        cards.add(card(LlanowarElves.class, "Llanowar Elves"));
+        cards.add(card(LlanowarElves.class, "Llanowar Elves"));
+        cards.add(card(SoulWarden.class, "Soul Warden"));
+        cards.add(card(GloriousAnthem.class, "Glorious Anthem"));
+
+        List<PermanentCard> battlefield = new ArrayList<>();
+        for (Card card : cards) {
+            battlefield.add(new PermanentCard(card, player.getId(), game));
+        }
+        return battlefield;
+    }
+
+    private static List<PermanentCard> createManaBase(Player player, Game game) {
+        List<Card> cards = new ArrayList<>();
+        cards.add(card(ArcaneSanctum.class, "Arcane Sanctum"));
+        cards.add(card(JungleShrine.class, "Jungle Shrine"));
+        cards.add(card(SeasideCitadel.class, "Seaside Citadel"));
+        cards.add(card(IndathaTriome.class, "Indatha Triome"));
+        cards.add(card(CityOfBrass.class, "City of Brass"));
+        cards.add(card(BirdsOfParadise.class, "Birds of Paradise"));
+        cards.add(card(SolRing.class, "Sol Ring"));
+        cards.add(card(FireLitThicket.class, "Fire-Lit Thicket"));
+        cards.add(card(RuggedPrairie.class, "Rugged Prairie"));
+        cards.add(card(MysticGate.class, "Mystic Gate"));
+        cards.add(card(SunkenRuins.class, "Sunken Ruins"));
+        cards.add(card(BorosSignet.class, "Boros Signet"));
+        cards.add(card(SimicSignet.class, "Simic Signet"));
+
+        List<PermanentCard> battlefield = new ArrayList<>();
+        for (Card card : cards) {
+            battlefield.add(new PermanentCard(card, player.getId(), game));
+        }
+        return battlefield;
+    }
+
+    private static Card card(Class<? extends Card> type, String name) {
+        return CardImpl.createCard(type, new CardSetInfo(name, "BENCH", "1", Rarity.COMMON));
+    }
+}
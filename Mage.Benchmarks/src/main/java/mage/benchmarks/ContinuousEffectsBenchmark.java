@@ -0,0 +1,34 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Layer system pass, it runs after every game action
+ * <p>
+ * Objects are reset to the card values before the layers are applied (same as in game), otherwise
+ * each call would boost already boosted creatures.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContinuousEffectsBenchmark {
+
+    private Game game;
+
+    @Setup
+    public void setup() {
+        game = BoardFixture.createBoard();
+    }
+
+    @Benchmark
+    public Game apply() {
+        game.applyEffects();
+        return game;
+    }
+}
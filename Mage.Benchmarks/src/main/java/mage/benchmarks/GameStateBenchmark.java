@@ -0,0 +1,75 @@
+package mage.benchmarks;
+
+import mage.MageObject;
+import mage.game.Game;
+import mage.game.GameStates;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import mage.watchers.Watcher;
+import mage.watchers.common.DamageDoneWatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game copies (every AI simulation step and saved state) and lookups done many times per game action
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameStateBenchmark {
+
+    private Game game;
+    private UUID permanentId;
+    private UUID handCardId;
+    private GameStates gameStates;
+
+    @Setup
+    public void setup() {
+        game = BoardFixture.createBoard();
+        Player player = game.getPlayer(game.getActivePlayerId());
+        Permanent permanent = game.getBattlefield().getAllActivePermanents(player.getId()).get(0);
+        permanentId = permanent.getId();
+        handCardId = player.getHand().iterator().next();
+        gameStates = new GameStates(64 * 1024 * 1024);
+    }
+
+    @Benchmark
+    public Game gameCopy() {
+        return game.copy();
+    }
+
+    /**
+     * Game thread part of a saved state (every priority with replays on): copy of the state and
+     * serialization of the state that leaves the live window, delta and compression are done in background
+     */
+    @Benchmark
+    public int saveState() {
+        gameStates.save(game.getState());
+        return gameStates.getSize();
+    }
+
+    @Benchmark
+    public Watcher watcherCopy() {
+        return game.getState().getWatcher(DamageDoneWatcher.class).copy();
+    }
+
+    @Benchmark
+    public MageObject getObjectPermanent() {
+        return game.getObject(permanentId);
+    }
+
+    @Benchmark
+    public MageObject getObjectCardInHand() {
+        return game.getObject(handCardId);
+    }
+
+    @Benchmark
+    public long stateHash() {
+        return game.getState().getFullHash(game);
+    }
+}
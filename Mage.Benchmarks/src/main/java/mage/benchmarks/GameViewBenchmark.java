@@ -0,0 +1,51 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.remote.traffic.GameViewDelta;
+import mage.remote.traffic.GameViewEncoder;
+import mage.view.GameView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game view for a player and its encoding for the client, done for every game update
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameViewBenchmark {
+
+    private Game game;
+    private UUID playerId;
+    private GameView view;
+    private GameViewEncoder encoder;
+
+    @Setup
+    public void setup() {
+        game = BoardFixture.createBoard();
+        playerId = game.getActivePlayerId();
+        view = new GameView(game.getState(), game, playerId, null);
+        encoder = new GameViewEncoder();
+    }
+
+    @Benchmark
+    public GameView createView() {
+        return new GameView(game.getState(), game, playerId, null);
+    }
+
+    @Benchmark
+    public GameViewDelta encodeFull() {
+        encoder.reset();
+        return encoder.encode(view);
+    }
+
+    @Benchmark
+    public GameViewDelta encodeUnchanged() {
+        return encoder.encode(view);
+    }
+}
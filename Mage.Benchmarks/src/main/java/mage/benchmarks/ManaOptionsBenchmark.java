@@ -0,0 +1,64 @@
+package mage.benchmarks;
+
+import mage.Mana;
+import mage.abilities.mana.ManaOptions;
+import mage.game.Game;
+import mage.players.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Available mana with a five colors mana base, the options count grows with every multi color
+ * source and mana ability with costs
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ManaOptionsBenchmark {
+
+    private static final int VARIATIONS_MANA = 8;
+
+    private Game game;
+    private Player player;
+    private ManaOptions variations;
+
+    @Setup
+    public void setup() {
+        game = BoardFixture.createManaBaseBoard();
+        player = game.getPlayer(game.getActivePlayerId());
+
+        // all five colors combinations of 7 and 8 mana, the 7 mana ones are included in the others
+        variations = new ManaOptions();
+        for (int count = VARIATIONS_MANA - 1; count <= VARIATIONS_MANA; count++) {
+            for (int white = 0; white <= count; white++) {
+                for (int blue = 0; white + blue <= count; blue++) {
+                    for (int black = 0; white + blue + black <= count; black++) {
+                        for (int red = 0; white + blue + black + red <= count; red++) {
+                            int green = count - white - blue - black - red;
+                            variations.add(new Mana(white, blue, black, red, green, 0, 0, 0));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public ManaOptions getManaAvailable() {
+        return player.getManaAvailable(game);
+    }
+
+    /**
+     * Includes the copy of the source options
+     */
+    @Benchmark
+    public ManaOptions removeFullyIncludedVariations() {
+        ManaOptions options = variations.copy();
+        options.removeFullyIncludedVariations();
+        return options;
+    }
+}
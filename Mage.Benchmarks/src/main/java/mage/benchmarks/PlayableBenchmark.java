@@ -0,0 +1,51 @@
+package mage.benchmarks;
+
+import mage.abilities.ActivatedAbility;
+import mage.abilities.mana.ManaOptions;
+import mage.game.Game;
+import mage.players.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playable abilities and available mana, calculated on every priority and for every game view update
+ * <p>
+ * Playable abilities are kept while the game state is not changed, so getPlayable measures a repeated
+ * call and getPlayableChangedState the full calculation (minus the apply effects time from
+ * {@link ContinuousEffectsBenchmark}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayableBenchmark {
+
+    private Game game;
+    private Player player;
+
+    @Setup
+    public void setup() {
+        game = BoardFixture.createBoard();
+        player = game.getPlayer(game.getActivePlayerId());
+    }
+
+    @Benchmark
+    public List<ActivatedAbility> getPlayable() {
+        return player.getPlayable(game, true);
+    }
+
+    @Benchmark
+    public List<ActivatedAbility> getPlayableChangedState() {
+        game.applyEffects();
+        return player.getPlayable(game, true);
+    }
+
+    @Benchmark
+    public ManaOptions getManaAvailable() {
+        return player.getManaAvailable(game);
+    }
+}
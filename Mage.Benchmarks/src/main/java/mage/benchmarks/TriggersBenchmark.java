@@ -0,0 +1,61 @@
+package mage.benchmarks;
+
+import mage.abilities.TriggeredAbility;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameState;
+import mage.game.events.EntersTheBattlefieldEvent;
+import mage.game.events.GameEvent;
+import mage.game.permanent.Permanent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Triggered abilities check, it runs for every fired game event
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TriggersBenchmark {
+
+    private Game game;
+    private GameEvent entersEvent;
+    private GameEvent otherEvent;
+
+    @Setup
+    public void setup() {
+        game = BoardFixture.createBoard();
+        UUID playerId = game.getActivePlayerId();
+        Permanent permanent = game.getBattlefield().getAllActivePermanents(playerId).get(0);
+        entersEvent = new EntersTheBattlefieldEvent(permanent, null, playerId, Zone.HAND);
+        // no ability of the board triggers on it
+        otherEvent = GameEvent.getEvent(GameEvent.EventType.UNTAPPED, permanent.getId(), null, playerId);
+    }
+
+    @Benchmark
+    public Game checkTriggersEntersBattlefield() {
+        game.getState().getTriggers().checkTriggers(entersEvent, game);
+        clearTriggered();
+        return game;
+    }
+
+    @Benchmark
+    public Game checkTriggersNotMatching() {
+        game.getState().getTriggers().checkTriggers(otherEvent, game);
+        return game;
+    }
+
+    private void clearTriggered() {
+        GameState state = game.getState();
+        for (UUID playerId : state.getPlayers().keySet()) {
+            for (TriggeredAbility ability : state.getTriggered(playerId)) {
+                state.removeTriggeredAbility(ability);
+            }
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package mage.interfaces.callback;
 
+import mage.remote.traffic.GameViewDecoder;
+import mage.remote.traffic.GameViewDelta;
+import mage.remote.traffic.GameViewEncoder;
 import mage.remote.traffic.ZippedObject;
 import mage.utils.CompressUtil;
 
@@ -44,7 +47,7 @@ public class ClientCallback implements Serializable {
     }
 
     public Object getData() {
-        if (this.data instanceof ZippedObject) {
+        if (this.data instanceof ZippedObject || this.data instanceof GameViewDelta) {
             throw new IllegalStateException("Client data must be decompressed first");
         }
         return data;
@@ -64,6 +67,40 @@ public class ClientCallback implements Serializable {
         }
     }
 
+    /**
+     * Encode not compressed data as delta to the previous game update, see {@link GameViewEncoder}
+     */
+    public void encodeData(GameViewEncoder encoder) {
+        if (this.data == null || this.data instanceof ZippedObject || this.data instanceof GameViewDelta) {
+            return;
+        }
+        GameViewDelta delta = encoder.encode(this.data);
+        this.data = delta != null ? delta : CompressUtil.compress(this.data);
+    }
+
+    public boolean isDataCompressed() {
+        return this.data instanceof ZippedObject || this.data instanceof GameViewDelta;
+    }
+
+    public boolean isGameViewDelta() {
+        return this.data instanceof GameViewDelta;
+    }
+
+    /**
+     * @return false if the data can't be decoded (lost game update), see {@link GameViewDecoder#needResync()}
+     */
+    public boolean decodeData(GameViewDecoder decoder) {
+        if (!(this.data instanceof GameViewDelta)) {
+            return true;
+        }
+        Object decoded = decoder.decode((GameViewDelta) this.data);
+        if (decoded == null) {
+            return false;
+        }
+        this.data = decoded;
+        return true;
+    }
+
     public ClientCallbackMethod getMethod() {
         return method;
     }
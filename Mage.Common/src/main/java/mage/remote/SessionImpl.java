@@ -15,8 +15,10 @@ import mage.interfaces.MageClient;
 import mage.interfaces.MageServer;
 import mage.interfaces.ServerState;
 import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.PlayerType;
 import mage.players.net.UserData;
+import mage.remote.traffic.GameViewDecoder;
 import mage.utils.CompressUtil;
 import mage.view.*;
 import org.apache.log4j.Logger;
@@ -573,15 +575,48 @@ public class SessionImpl implements Session {
 
     class CallbackHandler implements InvokerCallbackHandler {
 
+        // game updates are received as delta to the previous update of the same game
+        private final Map<UUID, GameViewDecoder> gameViewDecoders = new HashMap<>();
+
         @Override
         public void handleCallback(Callback callback) throws HandleCallbackException {
             try {
-                client.processCallback((ClientCallback) callback.getCallbackObject());
+                ClientCallback clientCallback = (ClientCallback) callback.getCallbackObject();
+                if (!decodeGameView(clientCallback)) {
+                    return;
+                }
+                client.processCallback(clientCallback);
             } catch (Exception ex) {
                 logger.error("handleCallback error", ex);
             }
 
         }
+
+        /**
+         * @return false if the game update or prompt was lost and must be skipped
+         */
+        private synchronized boolean decodeGameView(ClientCallback clientCallback) {
+            if (clientCallback.getMethod() == ClientCallbackMethod.GAME_OVER) {
+                gameViewDecoders.remove(clientCallback.getObjectId());
+            }
+            if (!clientCallback.isGameViewDelta()) {
+                return true;
+            }
+            GameViewDecoder decoder = gameViewDecoders.computeIfAbsent(clientCallback.getObjectId(), id -> new GameViewDecoder());
+            if (clientCallback.decodeData(decoder)) {
+                return true;
+            }
+            if (clientCallback.getMethod() != ClientCallbackMethod.GAME_UPDATE) {
+                // prompt must not be lost, server sends it again in full
+                decoder.needResync();
+                logger.warn("Lost game prompt, requesting it again: " + clientCallback.getObjectId() + " " + clientCallback.getMethod());
+                sendPlayerAction(PlayerAction.CLIENT_RESYNC_GAME_VIEW, clientCallback.getObjectId(), Boolean.TRUE);
+            } else if (decoder.needResync()) {
+                logger.warn("Lost game update, requesting a full one: " + clientCallback.getObjectId());
+                sendPlayerAction(PlayerAction.CLIENT_RESYNC_GAME_VIEW, clientCallback.getObjectId(), null);
+            }
+            return false;
+        }
     }
 
     class ClientConnectionListener implements ConnectionListener {
@@ -0,0 +1,50 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+
+/**
+ * Reads data of {@link CompactObjectOutputStream}, class descriptors are taken from the local classes.
+ * Classes with other serialVersionUID or field layout (e.g. other build) fail with InvalidClassException
+ * instead of wrong decoded data.
+ */
+public class CompactObjectInputStream extends ObjectInputStream {
+
+    public CompactObjectInputStream(InputStream in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        String name = readUTF();
+        long serialVersionUID = readLong();
+        int fieldsHash = readInt();
+        ObjectStreamClass desc = ObjectStreamClass.lookupAny(loadClass(name));
+        if (desc == null) {
+            throw new InvalidClassException(name, "class is not serializable");
+        }
+        if (desc.getSerialVersionUID() != serialVersionUID) {
+            throw new InvalidClassException(name, "incompatible class version: stream classdesc serialVersionUID = "
+                    + serialVersionUID + ", local class serialVersionUID = " + desc.getSerialVersionUID());
+        }
+        if (CompactObjectOutputStream.getFieldsHash(desc) != fieldsHash) {
+            throw new InvalidClassException(name, "incompatible class version: fields of the stream and local class are different");
+        }
+        return desc;
+    }
+
+    private static Class<?> loadClass(String name) throws ClassNotFoundException {
+        try {
+            return Class.forName(name, false, CompactObjectInputStream.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+            if (contextLoader == null) {
+                throw e;
+            }
+            return Class.forName(name, false, contextLoader);
+        }
+    }
+}
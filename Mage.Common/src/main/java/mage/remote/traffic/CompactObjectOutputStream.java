@@ -0,0 +1,43 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+
+/**
+ * Object stream without field descriptions: a class descriptor is written as the class name,
+ * serialVersionUID and a hash of the field layout.
+ * <p>
+ * Standard serialization writes names and types of all fields of every class into each payload
+ * (e.g. 100+ fields of {@link mage.view.CardView}). Client and server must have the same classes
+ * (versions are checked on connect), so the reader takes the field layout from its own classes
+ * and only checks that it's the same, see {@link CompactObjectInputStream}.
+ */
+public class CompactObjectOutputStream extends ObjectOutputStream {
+
+    public CompactObjectOutputStream(OutputStream out) throws IOException {
+        super(out);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+        writeUTF(desc.getName());
+        writeLong(desc.getSerialVersionUID());
+        writeInt(getFieldsHash(desc));
+    }
+
+    /**
+     * Hash of names and types of the serializable fields, e.g. to find classes of other builds
+     * with the same serialVersionUID
+     */
+    static int getFieldsHash(ObjectStreamClass desc) {
+        int hash = 1;
+        for (ObjectStreamField field : desc.getFields()) {
+            hash = 31 * hash + field.getName().hashCode();
+            hash = 31 * hash + (field.isPrimitive() ? field.getTypeCode() : field.getTypeString().hashCode());
+        }
+        return hash;
+    }
+}
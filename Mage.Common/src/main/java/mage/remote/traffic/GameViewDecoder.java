@@ -0,0 +1,130 @@
+package mage.remote.traffic;
+
+import org.apache.log4j.Logger;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Client side decoder of game updates and prompts for one game, see {@link GameViewEncoder}
+ * <p>
+ * Card, player and exile zone views are kept serialized and every update gets new instances, so
+ * the client can change the views (e.g. selections) without side effects on the next updates.
+ */
+public class GameViewDecoder {
+
+    private static final Logger logger = Logger.getLogger(GameViewDecoder.class);
+
+    // serialized card views of the last update
+    private final Map<UUID, byte[]> cards = new HashMap<>();
+    // encoded player and exile zone views of the last update
+    private final Map<UUID, byte[]> views = new HashMap<>();
+    private long version = -1;
+    private boolean resyncRequested;
+
+    /**
+     * @return decoded data or null if the update doesn't follow the last decoded one (lost update)
+     */
+    public synchronized Object decode(GameViewDelta delta) {
+        if (delta.isFull()) {
+            cards.clear();
+            views.clear();
+            resyncRequested = false;
+        } else if (delta.getBase() != version) {
+            return null;
+        }
+        Set<UUID> usedCards = new HashSet<>();
+        Set<UUID> usedViews = new HashSet<>();
+        try (ObjectInputStream in = new ViewReader(new GZIPInputStream(new ByteArrayInputStream(delta.getData())), usedCards, usedViews)) {
+            Object data = in.readObject();
+            cards.keySet().retainAll(usedCards);
+            views.keySet().retainAll(usedViews);
+            version = delta.getVersion();
+            return data;
+        } catch (IOException | ClassNotFoundException e) {
+            logger.error("Can't decode game view: " + e.getMessage(), e);
+            version = -1;
+            return null;
+        }
+    }
+
+    /**
+     * @return true only for the first call after a failed decode, so a full update is requested once
+     */
+    public synchronized boolean needResync() {
+        if (resyncRequested) {
+            return false;
+        }
+        resyncRequested = true;
+        return true;
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException {
+        try (ObjectInputStream in = new CompactObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidObjectException("Unknown card view class: " + e.getMessage());
+        }
+    }
+
+    private final class ViewReader extends CompactObjectInputStream {
+
+        private final Set<UUID> usedCards;
+        private final Set<UUID> usedViews;
+
+        private ViewReader(InputStream in, Set<UUID> usedCards, Set<UUID> usedViews) throws IOException {
+            super(in);
+            this.usedCards = usedCards;
+            this.usedViews = usedViews;
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) throws IOException {
+            if (obj instanceof GameViewDelta.CardData) {
+                GameViewDelta.CardData cardData = (GameViewDelta.CardData) obj;
+                cards.put(cardData.id, cardData.bytes);
+                usedCards.add(cardData.id);
+                return deserialize(cardData.bytes);
+            }
+            if (obj instanceof GameViewDelta.CardRef) {
+                UUID id = ((GameViewDelta.CardRef) obj).id;
+                byte[] bytes = cards.get(id);
+                if (bytes == null) {
+                    throw new InvalidObjectException("Unknown card view: " + id);
+                }
+                usedCards.add(id);
+                return deserialize(bytes);
+            }
+            if (obj instanceof GameViewDelta.ViewData) {
+                GameViewDelta.ViewData viewData = (GameViewDelta.ViewData) obj;
+                views.put(viewData.id, viewData.bytes);
+                usedViews.add(viewData.id);
+                return readView(viewData.bytes);
+            }
+            if (obj instanceof GameViewDelta.ViewRef) {
+                UUID id = ((GameViewDelta.ViewRef) obj).id;
+                byte[] bytes = views.get(id);
+                if (bytes == null) {
+                    throw new InvalidObjectException("Unknown view: " + id);
+                }
+                usedViews.add(id);
+                return readView(bytes);
+            }
+            return obj;
+        }
+
+        private Object readView(byte[] bytes) throws IOException {
+            try (ObjectInputStream in = new ViewReader(new ByteArrayInputStream(bytes), usedCards, usedViews)) {
+                return in.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new InvalidObjectException("Unknown view class: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package mage.remote.traffic;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Game update or prompt data encoded against the previous update of the same game, see {@link GameViewEncoder}
+ */
+public class GameViewDelta implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long base; // version of the previous update, 0 - full update
+    private final long version;
+    private final byte[] data;
+
+    GameViewDelta(long base, long version, byte[] data) {
+        this.base = base;
+        this.version = version;
+        this.data = data;
+    }
+
+    public boolean isFull() {
+        return base == 0;
+    }
+
+    public long getBase() {
+        return base;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    public int getSize() {
+        return data.length;
+    }
+
+    /**
+     * Card view that is the same as in the previous update
+     */
+    static final class CardRef implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final UUID id;
+
+        CardRef(UUID id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * New or changed card view, serialized on its own
+     */
+    static final class CardData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final UUID id;
+        final byte[] bytes;
+
+        CardData(UUID id, byte[] bytes) {
+            this.id = id;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Player or exile zone view that is the same as in the previous update
+     */
+    static final class ViewRef implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final UUID id;
+
+        ViewRef(UUID id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * New or changed player or exile zone view, encoded on its own with card references
+     */
+    static final class ViewData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final UUID id;
+        final byte[] bytes;
+
+        ViewData(UUID id, byte[] bytes) {
+            this.id = id;
+            this.bytes = bytes;
+        }
+    }
+}
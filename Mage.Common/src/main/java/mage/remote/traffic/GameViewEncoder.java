@@ -0,0 +1,147 @@
+package mage.remote.traffic;
+
+import mage.view.CardView;
+import mage.view.ExileView;
+import mage.view.PlayerView;
+import org.apache.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Server side encoder of game updates and prompts for one client and game.
+ * <p>
+ * Most cards don't change between two game updates, so card views that are the same as in the
+ * previous update are sent as a reference only. Player and exile zone views are encoded on their own
+ * with references to the cards, so an unchanged player (e.g. an opponent without priority) or exile
+ * zone is sent as a reference too. Other parts (e.g. stack and combat) are small and sent in full, but
+ * their cards are references. The client keeps the views of the last update, see {@link GameViewDecoder}.
+ * <p>
+ * Updates must be sent in the encoding order, a lost update breaks the chain until the next full
+ * update (see {@link #reset()}).
+ */
+public class GameViewEncoder {
+
+    private static final Logger logger = Logger.getLogger(GameViewEncoder.class);
+
+    // serialized card views of the last update
+    private final Map<UUID, byte[]> sentCards = new HashMap<>();
+    // encoded player and exile zone views of the last update, see getViewId
+    private final Map<UUID, byte[]> sentViews = new HashMap<>();
+    private long version;
+    private boolean full = true;
+
+    /**
+     * @return encoded data or null on error
+     */
+    public synchronized GameViewDelta encode(Object data) {
+        long base = full ? 0 : version;
+        Set<UUID> usedCards = new HashSet<>();
+        Set<UUID> usedViews = new HashSet<>();
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ViewWriter(new GZIPOutputStream(bos), null, usedCards, usedViews)) {
+                out.writeObject(data);
+            }
+            sentCards.keySet().retainAll(usedCards);
+            sentViews.keySet().retainAll(usedViews);
+            version++;
+            full = false;
+            return new GameViewDelta(base, version, bos.toByteArray());
+        } catch (IOException e) {
+            logger.error("Can't encode game view: " + e.getMessage(), e);
+            reset();
+            return null;
+        }
+    }
+
+    /**
+     * Send the next update in full, e.g. after a lost update
+     */
+    public synchronized void reset() {
+        sentCards.clear();
+        sentViews.clear();
+        full = true;
+    }
+
+    static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new CompactObjectOutputStream(bos)) {
+            out.writeObject(object);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * @return id of a view that is encoded on its own, null for other objects
+     */
+    static UUID getViewId(Object obj) {
+        if (obj instanceof PlayerView) {
+            return ((PlayerView) obj).getPlayerId();
+        }
+        if (obj instanceof ExileView) {
+            return ((ExileView) obj).getId();
+        }
+        return null;
+    }
+
+    private final class ViewWriter extends CompactObjectOutputStream {
+
+        private final Object root; // view to encode, null - any data
+        private final Set<UUID> usedCards;
+        private final Set<UUID> usedViews;
+
+        private ViewWriter(OutputStream out, Object root, Set<UUID> usedCards, Set<UUID> usedViews) throws IOException {
+            super(out);
+            this.root = root;
+            this.usedCards = usedCards;
+            this.usedViews = usedViews;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (obj == root) {
+                return obj;
+            }
+            if (obj instanceof CardView && ((CardView) obj).getId() != null) {
+                return replaceCard((CardView) obj);
+            }
+            UUID viewId = getViewId(obj);
+            if (viewId != null) {
+                return replaceView(viewId, obj);
+            }
+            return obj;
+        }
+
+        private Object replaceCard(CardView card) throws IOException {
+            UUID id = card.getId();
+            byte[] bytes = serialize(card);
+            usedCards.add(id);
+            if (Arrays.equals(bytes, sentCards.get(id))) {
+                return new GameViewDelta.CardRef(id);
+            }
+            sentCards.put(id, bytes);
+            return new GameViewDelta.CardData(id, bytes);
+        }
+
+        private Object replaceView(UUID id, Object view) throws IOException {
+            // same bytes means all cards of the view are references to the known cards
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ViewWriter(bos, view, usedCards, usedViews)) {
+                out.writeObject(view);
+            }
+            byte[] bytes = bos.toByteArray();
+            usedViews.add(id);
+            if (Arrays.equals(bytes, sentViews.get(id))) {
+                return new GameViewDelta.ViewRef(id);
+            }
+            sentViews.put(id, bytes);
+            return new GameViewDelta.ViewData(id, bytes);
+        }
+    }
+}
@@ -3,8 +3,6 @@ package mage.remote.traffic;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -27,7 +25,7 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
         try {
             ByteArrayOutputStream bos = new ByteArrayOutputStream();
             GZIPOutputStream gz = new GZIPOutputStream(bos);
-            ObjectOutputStream oos = new ObjectOutputStream(gz);
+            CompactObjectOutputStream oos = new CompactObjectOutputStream(gz);
             oos.writeObject(object);
             oos.close();
             data = bos.toByteArray();
@@ -41,7 +39,7 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
         try {
             ByteArrayInputStream bis = new ByteArrayInputStream(data);
             GZIPInputStream gz = new GZIPInputStream(bis);
-            ObjectInputStream ois = new ObjectInputStream(gz);
+            CompactObjectInputStream ois = new CompactObjectInputStream(gz);
             Object o = ois.readObject();
             return (T)o;
         } catch (Exception e) {
@@ -22,8 +22,9 @@ public class UserView implements Serializable {
     private final String clientVersion;
     private final String email;
     private final String userIdStr;
+    private final String sendQueueInfo;
 
-    public UserView(String userName, String host, String sessionId, Date timeConnected, Date lastActivity, String gameInfo, String userState, Date muteChatUntil, String clientVersion, String email, String userIdStr) {
+    public UserView(String userName, String host, String sessionId, Date timeConnected, Date lastActivity, String gameInfo, String userState, Date muteChatUntil, String clientVersion, String email, String userIdStr, String sendQueueInfo) {
         this.userName = userName;
         this.host = host;
         this.sessionId = sessionId;
@@ -35,6 +36,7 @@ public class UserView implements Serializable {
         this.clientVersion = clientVersion;
         this.email = email;
         this.userIdStr = userIdStr;
+        this.sendQueueInfo = sendQueueInfo;
     }
 
     public String getUserName() {
@@ -80,4 +82,8 @@ public class UserView implements Serializable {
     public String getUserIdStr() {
         return userIdStr;
     }
+
+    public String getSendQueueInfo() {
+        return sendQueueInfo;
+    }
 }
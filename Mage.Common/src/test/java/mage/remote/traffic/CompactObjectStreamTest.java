@@ -0,0 +1,99 @@
+package mage.remote.traffic;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompactObjectStreamTest {
+
+    private static class TestData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final int value;
+
+        TestData(String name, int value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Writes descriptors like a build with other classes
+     */
+    private static class OtherBuildOutputStream extends ObjectOutputStream {
+
+        private final long serialVersionUIDChange;
+        private final int fieldsHashChange;
+
+        OtherBuildOutputStream(ByteArrayOutputStream out, long serialVersionUIDChange, int fieldsHashChange) throws IOException {
+            super(out);
+            this.serialVersionUIDChange = serialVersionUIDChange;
+            this.fieldsHashChange = fieldsHashChange;
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID() + serialVersionUIDChange);
+            writeInt(CompactObjectOutputStream.getFieldsHash(desc) + fieldsHashChange);
+        }
+    }
+
+    private static Object read(ByteArrayOutputStream data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new CompactObjectInputStream(new ByteArrayInputStream(data.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+
+    private static ByteArrayOutputStream writeOtherBuild(long serialVersionUIDChange, int fieldsHashChange) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new OtherBuildOutputStream(data, serialVersionUIDChange, fieldsHashChange)) {
+            out.writeObject(new TestData("a", 1));
+        }
+        return data;
+    }
+
+    @Test
+    void testReadSameClasses() throws Exception {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new CompactObjectOutputStream(data)) {
+            out.writeObject(new TestData("a", 1));
+        }
+
+        TestData res = (TestData) read(data);
+
+        assertThat(res.name).isEqualTo("a");
+        assertThat(res.value).isEqualTo(1);
+        assertThat(read(writeOtherBuild(0, 0))).isInstanceOf(TestData.class);
+    }
+
+    @Test
+    void testFailOnOtherSerialVersionUID() throws Exception {
+        ByteArrayOutputStream data = writeOtherBuild(1, 0);
+
+        assertThatThrownBy(() -> read(data))
+                .isInstanceOf(InvalidClassException.class)
+                .hasMessageContaining("serialVersionUID");
+    }
+
+    @Test
+    void testFailOnOtherFields() throws Exception {
+        ByteArrayOutputStream data = writeOtherBuild(0, 1);
+
+        assertThatThrownBy(() -> read(data))
+                .isInstanceOf(InvalidClassException.class)
+                .hasMessageContaining("fields");
+    }
+}
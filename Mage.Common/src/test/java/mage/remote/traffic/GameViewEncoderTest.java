@@ -0,0 +1,138 @@
+package mage.remote.traffic;
+
+import mage.game.ExileZone;
+import mage.view.CardView;
+import mage.view.ExileView;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameViewEncoderTest {
+
+    private static class TestCardView extends CardView {
+
+        TestCardView(UUID id, String name) {
+            super(true);
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static List<String> names(Object data) {
+        List<String> names = new ArrayList<>();
+        for (Object card : (List<?>) data) {
+            names.add(((CardView) card).getName());
+        }
+        return names;
+    }
+
+    private static ExileView exile(UUID id, CardView... cards) {
+        ExileView exile = new ExileView(new ExileZone(id, "exile"), null);
+        for (CardView card : cards) {
+            exile.put(card.getId(), card);
+        }
+        return exile;
+    }
+
+    @Test
+    void testSendChangedCardsOnly() {
+        GameViewEncoder encoder = new GameViewEncoder();
+        GameViewDecoder decoder = new GameViewDecoder();
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+
+        GameViewDelta first = encoder.encode(new ArrayList<>(Arrays.asList(new TestCardView(id1, "a"), new TestCardView(id2, "b"))));
+        GameViewDelta second = encoder.encode(new ArrayList<>(Arrays.asList(new TestCardView(id1, "a"), new TestCardView(id2, "c"))));
+
+        assertThat(first.isFull()).isTrue();
+        assertThat(second.isFull()).isFalse();
+        assertThat(names(decoder.decode(first))).containsExactly("a", "b");
+        Object decoded = decoder.decode(second);
+        assertThat(names(decoded)).containsExactly("a", "c");
+
+        // unchanged cards are new instances, so client side changes can't leak into next updates
+        GameViewDelta third = encoder.encode(new ArrayList<>(Arrays.asList(new TestCardView(id1, "a"))));
+        Object decodedAgain = decoder.decode(third);
+        assertThat(names(decodedAgain)).containsExactly("a");
+        assertThat(((List<?>) decodedAgain).get(0)).isNotSameAs(((List<?>) decoded).get(0));
+    }
+
+    @Test
+    void testResyncAfterLostUpdate() {
+        GameViewEncoder encoder = new GameViewEncoder();
+        GameViewDecoder decoder = new GameViewDecoder();
+        UUID id = UUID.randomUUID();
+
+        decoder.decode(encoder.encode(new ArrayList<>(Arrays.asList(new TestCardView(id, "a")))));
+        encoder.encode(new ArrayList<>(Arrays.asList(new TestCardView(id, "b")))); // lost
+        GameViewDelta next = encoder.encode(new ArrayList<>(Arrays.asList(new TestCardView(id, "b"))));
+
+        assertThat(decoder.decode(next)).isNull();
+        assertThat(decoder.needResync()).isTrue();
+        assertThat(decoder.needResync()).isFalse();
+
+        encoder.reset();
+        GameViewDelta full = encoder.encode(new ArrayList<>(Arrays.asList(new TestCardView(id, "b"))));
+        assertThat(full.isFull()).isTrue();
+        assertThat(names(decoder.decode(full))).containsExactly("b");
+    }
+
+    @Test
+    void testSendChangedViewsOnly() {
+        GameViewEncoder encoder = new GameViewEncoder();
+        GameViewDecoder decoder = new GameViewDecoder();
+        UUID exileId = UUID.randomUUID();
+        List<CardView> cards = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            cards.add(new TestCardView(UUID.randomUUID(), "card " + i));
+        }
+        UUID changedId = cards.get(0).getId();
+
+        GameViewDelta first = encoder.encode(new ArrayList<>(Arrays.asList(exile(exileId, cards.toArray(new CardView[0])))));
+        // cards are references now, so the view is sent again
+        GameViewDelta second = encoder.encode(new ArrayList<>(Arrays.asList(exile(exileId, cards.toArray(new CardView[0])))));
+        GameViewDelta unchanged = encoder.encode(new ArrayList<>(Arrays.asList(exile(exileId, cards.toArray(new CardView[0])))));
+        cards.set(0, new TestCardView(changedId, "changed"));
+        GameViewDelta changed = encoder.encode(new ArrayList<>(Arrays.asList(exile(exileId, cards.toArray(new CardView[0])))));
+
+        assertThat(decoder.decode(first)).isNotNull();
+        assertThat(decoder.decode(second)).isNotNull();
+        Object decodedUnchanged = decoder.decode(unchanged);
+        Object decodedChanged = decoder.decode(changed);
+
+        assertThat(unchanged.getSize()).isLessThan(second.getSize());
+        assertThat(unchanged.getSize()).isLessThan(changed.getSize());
+        ExileView exileUnchanged = (ExileView) ((List<?>) decodedUnchanged).get(0);
+        ExileView exileChanged = (ExileView) ((List<?>) decodedChanged).get(0);
+        assertThat(exileUnchanged.getId()).isEqualTo(exileId);
+        assertThat(exileUnchanged).hasSize(20);
+        assertThat(exileUnchanged.get(changedId).getName()).isEqualTo("card 0");
+        assertThat(exileChanged.get(changedId).getName()).isEqualTo("changed");
+        assertThat(exileChanged).isNotSameAs(exileUnchanged);
+    }
+
+    @Test
+    void testResyncViewsAfterLostUpdate() {
+        GameViewEncoder encoder = new GameViewEncoder();
+        GameViewDecoder decoder = new GameViewDecoder();
+        UUID exileId = UUID.randomUUID();
+        UUID cardId = UUID.randomUUID();
+
+        decoder.decode(encoder.encode(new ArrayList<>(Arrays.asList(exile(exileId)))));
+        encoder.encode(new ArrayList<>(Arrays.asList(exile(exileId, new TestCardView(cardId, "a"))))); // lost
+        encoder.encode(new ArrayList<>(Arrays.asList(exile(exileId, new TestCardView(cardId, "a")))));
+        GameViewDelta next = encoder.encode(new ArrayList<>(Arrays.asList(exile(exileId, new TestCardView(cardId, "a")))));
+
+        assertThat(decoder.decode(next)).isNull();
+
+        encoder.reset();
+        GameViewDelta full = encoder.encode(new ArrayList<>(Arrays.asList(exile(exileId, new TestCardView(cardId, "a")))));
+        ExileView exile = (ExileView) ((List<?>) decoder.decode(full)).get(0);
+        assertThat(names(new ArrayList<>(exile.values()))).containsExactly("a");
+    }
+}
@@ -412,8 +412,9 @@
      public static final int POS_USER_STATE = 6;
      public static final int POS_CHAT_MUTE = 7;
      public static final int POS_CLIENT_VERSION = 8;
+     public static final int POS_SEND_QUEUE = 9;
 
-     private final String[] columnNames = new String[]{"User Name", "Host", "Time Connected", "Last activity", "SessionId", "Gameinfo", "User state", "Chat mute", "Client Version"};
+     private final String[] columnNames = new String[]{"User Name", "Host", "Time Connected", "Last activity", "SessionId", "Gameinfo", "User state", "Chat mute", "Client Version", "Send queue/dropped/coalesced"};
      private UserView[] users = new UserView[0];
      private static final DateFormat formatterTime = new SimpleDateFormat("HH:mm:ss");
      private static final DateFormat formatterTimeStamp = new SimpleDateFormat("yy-M-dd HH:mm:ss");
@@ -457,6 +458,8 @@
                  return formatterTimeStamp.format(users[arg0].getMuteChatUntil());
              case POS_CLIENT_VERSION:
                  return users[arg0].getClientVersion();
+             case POS_SEND_QUEUE:
+                 return users[arg0].getSendQueueInfo();
          }
          return "";
      }
@@ -49,7 +49,10 @@ import java.util.stream.Collectors;
 public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
 
     private static final Logger logger = Logger.getLogger(ComputerPlayer6.class);
-    private static final ExecutorService pool = Executors.newFixedThreadPool(1);
+    // timed searches of all AI players, so that many tables can search at the same time (others wait for a free thread)
+    private static final ExecutorService pool = Executors.newFixedThreadPool(Config2.rootSearchThreads);
+    // first level actions of a search are simulated in parallel (root splitting), see simulatePriority
+    private static final ExecutorService rootSearchPool = Executors.newFixedThreadPool(Config2.rootSearchThreads);
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThink;
@@ -222,7 +225,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
         // Condition to stop deeper simulation
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getCount() > maxNodes
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             if (logger.isTraceEnabled()) {
@@ -306,13 +309,13 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            logger.trace("Sim getNextAction -- game value:" + game.getState().getPositionHash(game) + " test value:" + test.gameValue);
             if (!suggestedActions.isEmpty()) {
                 return false;
             }
             if (root.playerId.equals(playerId)
                     && root.abilities != null
-                    && game.getState().getValue(true).hashCode() == test.gameValue) {
+                    && game.getState().getPositionHash(game) == test.gameValue) {
                 logger.info("simulating -- continuing previous action chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -333,7 +336,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getCount() > maxNodes) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -405,7 +408,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -472,7 +475,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
             logger.info("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getPositionHash(game));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
@@ -491,6 +494,12 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 logger.info(String.format("-> #%d (%s)", i + 1, allActions.get(i)));
             }
         }
+        List<Future<SimulationNode2>> rootSearch = null;
+        if (depth == maxDepth
+                && allActions.size() > 1
+                && Config2.rootSearchThreads > 1) {
+            rootSearch = startRootSearch(node, game, allActions, currentPlayer.getId(), depth, alpha, beta);
+        }
         int actionNumber = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
         for (Ability action : allActions) {
@@ -501,34 +510,14 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 logger.info("Sim Prio [" + depth + "] -- interrupted");
                 break;
             }
-            Game sim = game.copy();
-            sim.setSimulation(true);
-            if (!(action instanceof StaticAbility) //for MorphAbility, etc
-                    && sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
-                sim.applyEffects();
-                if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
-                    continue;
-                }
-                if (!sim.checkIfGameIsOver()
-                        && (action.isUsesStack() || action instanceof PassAbility)) {
-                    // skip priority for opponents before stack resolve
-                    UUID nextPlayerId = sim.getPlayerList().get();
-                    do {
-                        sim.getPlayer(nextPlayerId).pass(game);
-                        nextPlayerId = sim.getPlayerList().getNext();
-                    } while (!Objects.equals(nextPlayerId, this.getId()));
-                }
-                SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                sim.checkStateAndTriggered();
-                int actionScore;
-                if (action instanceof PassAbility && sim.getStack().isEmpty()) {
-                    // no more next actions, it's a final score
-                    actionScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
-                } else {
-                    // resolve current action and calc all next actions to find best score (return max possible score)
-                    actionScore = addActions(newNode, depth - 1, alpha, beta);
-                }
+            SimulationNode2 newNode;
+            if (rootSearch != null) {
+                newNode = getRootSearchResult(rootSearch, actionNumber - 1);
+            } else {
+                newNode = simulateAction(node, game.copy(), action, currentPlayer.getId(), depth, alpha, beta);
+            }
+            if (newNode != null) {
+                int actionScore = newNode.getScore();
                 logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + actionScore + "> - (" + action + ") ");
 
                 // Hints on data:
@@ -629,15 +618,19 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 if (alpha >= beta) {
                     break;
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (node.getCount() > maxNodes) {
                     logger.debug("Sim Prio -- reached end-state");
                     break;
                 }
             }
         } // end of for (allActions)
+        if (rootSearch != null) {
+            // stopped by cut-off or timeout
+            rootSearch.forEach(task -> task.cancel(true));
+        }
 
         if (depth == maxDepth) {
-            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + node.getCount());
         }
         if (bestNode != null) {
             node.children.clear();
@@ -656,6 +649,79 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
     }
 
+    /**
+     * Simulates one action of the current player and all next actions
+     *
+     * @param node parent node
+     * @param sim  own game copy for the action
+     * @return node with the action's score or null if the action can't be used
+     */
+    protected SimulationNode2 simulateAction(SimulationNode2 node, Game sim, Ability action, UUID currentPlayerId, int depth, int alpha, int beta) {
+        sim.setSimulation(true);
+        if (action instanceof StaticAbility //for MorphAbility, etc
+                || !sim.getPlayer(currentPlayerId).activateAbility((ActivatedAbility) action.copy(), sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, currentPlayerId)) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && (action.isUsesStack() || action instanceof PassAbility)) {
+            // skip priority for opponents before stack resolve
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(sim);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (!Objects.equals(nextPlayerId, this.getId()));
+        }
+        SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayerId);
+        sim.checkStateAndTriggered();
+        int actionScore;
+        if (action instanceof PassAbility && sim.getStack().isEmpty()) {
+            // no more next actions, it's a final score
+            actionScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
+        } else {
+            // resolve current action and calc all next actions to find best score (return max possible score)
+            actionScore = addActions(newNode, depth - 1, alpha, beta);
+        }
+        newNode.setScore(actionScore);
+        return newNode;
+    }
+
+    /**
+     * Starts the simulation of all first level actions, each action gets own game copy and thread.
+     * Game copies are made here, before the tasks start, so the tasks never use the source game.
+     * Sub-trees can't share alpha-beta bounds, so each one is searched with the root bounds.
+     */
+    private List<Future<SimulationNode2>> startRootSearch(SimulationNode2 node, Game game, List<Ability> allActions, UUID currentPlayerId, int depth, int alpha, int beta) {
+        List<Future<SimulationNode2>> tasks = new ArrayList<>(allActions.size());
+        for (Ability action : allActions) {
+            Game sim = game.copy();
+            tasks.add(rootSearchPool.submit(() -> simulateAction(node, sim, action, currentPlayerId, depth, alpha, beta)));
+        }
+        return tasks;
+    }
+
+    private SimulationNode2 getRootSearchResult(List<Future<SimulationNode2>> tasks, int index) {
+        try {
+            return tasks.get(index).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            // same as a sequential search, see addActionsTimed, but stop other workers first
+            tasks.forEach(task -> task.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     private String printDiffScore(int score) {
         if (score >= 0) {
             return "+" + score;
@@ -24,6 +24,7 @@ public final class Config2 {
     public static final int evaluatorPermanentFactor;
     public static final int evaluatorCreatureFactor;
     public static final int evaluatorHandFactor;
+    public static final int rootSearchThreads; // 0 in the properties - number of processors
 //    public static final int maxThinkSeconds;
 
     static {
@@ -53,6 +54,8 @@ public final class Config2 {
         evaluatorPermanentFactor = Integer.parseInt(p.getProperty("evaluatorPermanentFactor"));
         evaluatorCreatureFactor = Integer.parseInt(p.getProperty("evaluatorCreatureFactor"));
         evaluatorHandFactor = Integer.parseInt(p.getProperty("evaluatorHandFactor"));
+        int threads = Integer.parseInt(p.getProperty("rootSearchThreads", "0"));
+        rootSearchThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
 //        maxThinkSeconds = Integer.parseInt(p.getProperty("maxThinkSeconds"));
     }
 
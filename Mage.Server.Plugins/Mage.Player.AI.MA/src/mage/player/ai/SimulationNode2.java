@@ -5,6 +5,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.combat.Combat;
@@ -15,10 +16,11 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
+    // nodes of the whole search tree, shared by all nodes with the same root
+    protected final AtomicInteger nodeCount;
 
     protected Game game;
-    protected int gameValue;
+    protected long gameValue;
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -34,8 +36,9 @@ public class SimulationNode2 implements Serializable {
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
+        this.nodeCount = parent == null ? new AtomicInteger() : parent.nodeCount;
         game.setCustomData(this);
-        nodeCount++;
+        nodeCount.incrementAndGet();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -49,23 +52,19 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
-    }
-
-    public static int getCount() {
-        return nodeCount;
+    public int getCount() {
+        return nodeCount.get();
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
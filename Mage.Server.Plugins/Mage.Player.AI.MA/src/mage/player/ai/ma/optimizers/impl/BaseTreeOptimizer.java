@@ -31,24 +31,25 @@ public abstract class BaseTreeOptimizer implements TreeOptimizer {
 
     /**
      * Template method for optimization.
+     * Synchronized because optimizers are shared by all AI searches.
      *
      * @param game
      * @param actions
      */
     @Override
-    public final void optimize(Game game, List<Ability> actions) {
+    public final synchronized void optimize(Game game, List<Ability> actions) {
         filter(game, actions);
 
         if (toRemove != null) {
             for (Ability r : toRemove) {
                 actions.remove(r);
             }
+            toRemove.clear();
         }
     }
 
     /**
      * Mark an ability to be removed
-     * Not thread-safe for performance reasons.
      *
      * @param ability
      */
@@ -17,10 +17,12 @@ import org.apache.log4j.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -31,17 +33,23 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     private static final int THINK_MAX_RATIO = 100;
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
+    private static final int MAX_STOP_TIME = 10; // seconds to wait for a running simulation after the think time
+
+    // long lived search threads, shared by all MCTS players
+    private static final ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
 
     protected transient MCTSNode root;
     protected int maxThinkTime;
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
     private int poolSize;
+    private transient MCTSActionCache actionCache; // can be null
 
     public ComputerPlayerMCTS(String name, RangeOfInfluence range, int skill) {
         super(name, range);
         human = false;
         maxThinkTime = (int) (skill * THINK_TIME_MULTIPLIER);
         poolSize = Runtime.getRuntime().availableProcessors();
+        actionCache = MCTSConfig.useActionCache ? new MCTSActionCache() : null;
     }
 
     protected ComputerPlayerMCTS(UUID id) {
@@ -50,6 +58,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
 
     public ComputerPlayerMCTS(final ComputerPlayerMCTS player) {
         super(player);
+        this.actionCache = player.actionCache;
     }
 
     @Override
@@ -65,8 +74,8 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
             if (!lastPhase.equals(game.getTurn().getValue(game.getTurnNum()))) {
                 logList(game.getTurn().getValue(game.getTurnNum()) + name + " hand: ", new ArrayList(hand.getCards(game)));
                 lastPhase = game.getTurn().getValue(game.getTurnNum());
-                if (MCTSNode.USE_ACTION_CACHE) {
-                    int count = MCTSNode.cleanupCache(game.getTurnNum());
+                if (actionCache != null) {
+                    int count = actionCache.cleanup(game.getTurnNum());
                     if (count > 0)
                         logger.info("Removed " + count + " cache entries");
                 }
@@ -88,10 +97,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
 
     protected void calculateActions(Game game, NextAction action) {
         if (root == null) {
-            Game sim = createMCTSGame(game);
-            MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-            player.setNextAction(action);
-            root = new MCTSNode(playerId, sim);
+            root = new MCTSNode(playerId, createMCTSGame(game, action), actionCache);
         }
         applyMCTS(game, action);
         root = root.bestChild();
@@ -101,7 +107,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(game, playerId));
+            newRoot = root.getMatchingState(game.getState().getHash(game, playerId));
             if (newRoot != null) {
                 newRoot.emancipate();
             } else
@@ -123,7 +129,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
             sb.append(game.getPermanent(attackerId).getName()).append(',');
         }
         logger.info(sb.toString());
-        MCTSNode.logHitMiss();
+        logActionCache();
     }
 
     @Override
@@ -149,7 +155,13 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
             }
         }
         logger.info(sb.toString());
-        MCTSNode.logHitMiss();
+        logActionCache();
+    }
+
+    private void logActionCache() {
+        if (actionCache != null) {
+            logger.info(actionCache.getStats());
+        }
     }
 
     protected long totalThinkTime = 0;
@@ -161,36 +173,38 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
 
         if (thinkTime > 0) {
             if (USE_MULTIPLE_THREADS) {
-                ExecutorService pool = Executors.newFixedThreadPool(poolSize);
                 List<MCTSExecutor> tasks = new ArrayList<>();
-                for (int i = 0; i < poolSize; i++) {
-                    Game sim = createMCTSGame(game);
-                    MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-                    player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
-                    tasks.add(exec);
+                // the tree of the previous decisions is searched further, other tasks start from new game copies
+                boolean reuseRoot = root.canSearch();
+                if (reuseRoot) {
+                    tasks.add(new MCTSExecutor(root, playerId, thinkTime));
+                }
+                while (tasks.size() < poolSize) {
+                    tasks.add(new MCTSExecutor(createMCTSGame(game, action), playerId, thinkTime, actionCache));
                 }
 
-                try {
-                    pool.invokeAll(tasks, thinkTime, TimeUnit.SECONDS);
-                    pool.awaitTermination(1, TimeUnit.SECONDS);
-                    pool.shutdownNow();
-                } catch (InterruptedException | RejectedExecutionException ex) {
-                    logger.warn("applyMCTS interrupted");
+                boolean[] finished = runTasks(tasks, thinkTime);
+                if (reuseRoot && !finished[0]) {
+                    // the old tree is still in use, can't merge into it
+                    logger.warn("MCTS search of the previous tree didn't stop in time");
+                    root = new MCTSNode(playerId, createMCTSGame(game, action), actionCache);
                 }
 
                 int simCount = 0;
-                for (MCTSExecutor task : tasks) {
+                for (int i = 0; i < tasks.size(); i++) {
+                    MCTSExecutor task = tasks.get(i);
                     simCount += task.getSimCount();
-                    root.merge(task.getRoot());
+                    if (finished[i] && task.getRoot() != root) {
+                        root.merge(task.getRoot());
+                    }
                     task.clear();
                 }
                 tasks.clear();
                 totalThinkTime += thinkTime;
                 totalSimulations += simCount;
-                logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds - nodes in tree: " + root.size());
+                logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds (" + simCount / thinkTime + " per second) - nodes in tree: " + root.size());
                 logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime);
-                MCTSNode.logHitMiss();
+                logActionCache();
             } else {
                 long startTime = System.nanoTime();
                 long endTime = startTime + (thinkTime * 1000000000l);
@@ -222,13 +236,44 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
                     // Backpropagation
                     current.backpropagate(result);
                 }
-                logger.info("Simulated " + simCount + " games - nodes in tree: " + root.size());
+                logger.info("Simulated " + simCount + " games in " + thinkTime + " seconds (" + simCount / thinkTime + " per second) - nodes in tree: " + root.size());
             }
 //            displayMemory();
         }
 
     }
 
+    /**
+     * Run tasks in the shared pool, tasks stop by themselves after the think time
+     *
+     * @return finished tasks, the trees of other tasks can still be changed
+     */
+    private boolean[] runTasks(List<MCTSExecutor> tasks, int thinkTime) {
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (MCTSExecutor task : tasks) {
+            futures.add(pool.submit(task));
+        }
+        boolean[] finished = new boolean[tasks.size()];
+        long waitEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(thinkTime + MAX_STOP_TIME);
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get(Math.max(0, waitEnd - System.nanoTime()), TimeUnit.NANOSECONDS);
+                finished[i] = true;
+            } catch (ExecutionException e) {
+                logger.error("MCTS task failed", e.getCause());
+                finished[i] = true;
+            } catch (TimeoutException e) {
+                futures.get(i).cancel(true);
+            } catch (InterruptedException e) {
+                logger.warn("applyMCTS interrupted");
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                break;
+            }
+        }
+        return finished;
+    }
+
     //try to ensure that there are at least THINK_MIN_RATIO simulations per node at all times
     private int calculateThinkTime(Game game, NextAction action) {
         int thinkTime;
@@ -273,6 +318,13 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
      * @param game
      * @return a new game object with simulated players
      */
+    private Game createMCTSGame(Game game, NextAction action) {
+        Game sim = createMCTSGame(game);
+        MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
+        player.setNextAction(action);
+        return sim;
+    }
+
     protected Game createMCTSGame(Game game) {
         Game mcts = game.copy();
 
@@ -0,0 +1,184 @@
+package mage.player.ai;
+
+import mage.abilities.Ability;
+import mage.abilities.effects.ContinuousEffect;
+import mage.abilities.effects.ContinuousEffectsList;
+import mage.game.ExileZone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.game.stack.StackObject;
+import mage.players.Player;
+import mage.util.FastByteArrayOutputStream;
+import mage.util.StateHash;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Playable actions, attacks and blocks of already expanded game states, for one AI player.
+ * <p>
+ * Keys are game state hashes (see {@link mage.game.GameState#getFullHash(Game)}) with the ids of the game objects,
+ * the state hash compares objects by names only, but cached abilities and attackers/blockers refer to objects by ids.
+ * Keys also cover the state that restricts playable options without visible changes: mana pools, played lands,
+ * watchers (by serialized data) and continuous effects (by ids). States that can't be keyed are never cached.
+ * Every cache keeps up to {@link #MAX_SIZE} entries and removes the least recently used ones, entries of old turns are
+ * removed by {@link #cleanup(int)}. So memory doesn't grow over a long running AI table.
+ * <p>
+ * Cached abilities are never given out, callers get copies (parallel MCTS threads activate them on own games).
+ */
+public class MCTSActionCache {
+
+    private static final int MAX_SIZE = 10000;
+
+    private static final class Entry<T> {
+
+        private final int turnNum;
+        private final T value;
+
+        private Entry(int turnNum, T value) {
+            this.turnNum = turnNum;
+            this.value = value;
+        }
+    }
+
+    private static final class Cache<T> {
+
+        private final String name;
+        private final Map<Long, Entry<T>> entries = new LinkedHashMap<Long, Entry<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<T>> eldest) {
+                if (size() > MAX_SIZE) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        private long hits;
+        private long misses;
+        private long evictions;
+
+        private Cache(String name) {
+            this.name = name;
+        }
+
+        private T get(Long state, int turnNum, Supplier<T> loader) {
+            if (state == null) {
+                synchronized (this) {
+                    misses++;
+                }
+                return loader.get();
+            }
+            synchronized (this) {
+                Entry<T> entry = entries.get(state);
+                if (entry != null) {
+                    hits++;
+                    return entry.value;
+                }
+                misses++;
+            }
+            // calculated outside the lock, parallel MCTS threads can expand other states meanwhile
+            T value = loader.get();
+            synchronized (this) {
+                entries.put(state, new Entry<>(turnNum, value));
+            }
+            return value;
+        }
+
+        private synchronized int cleanup(int turnNum) {
+            int size = entries.size();
+            entries.values().removeIf(entry -> entry.turnNum < turnNum);
+            return size - entries.size();
+        }
+
+        private synchronized String getStats() {
+            return name + " Cache -- Hits: " + hits + " Misses: " + misses + " Size: " + entries.size() + " Evictions: " + evictions;
+        }
+    }
+
+    private final Cache<List<Ability>> playables = new Cache<>("Playables");
+    private final Cache<List<List<UUID>>> attacks = new Cache<>("Attacks");
+    private final Cache<List<List<List<UUID>>>> blocks = new Cache<>("Blocks");
+
+    public List<Ability> getPlayables(MCTSPlayer player, long state, Game game) {
+        List<Ability> cached = playables.get(getKey(state, game), game.getTurnNum(), () -> player.getPlayableOptions(game));
+        List<Ability> res = new ArrayList<>(cached.size());
+        for (Ability ability : cached) {
+            res.add(ability.copy());
+        }
+        return res;
+    }
+
+    public List<List<UUID>> getAttacks(MCTSPlayer player, long state, Game game) {
+        return attacks.get(getKey(state, game), game.getTurnNum(), () -> player.getAttacks(game));
+    }
+
+    public List<List<List<UUID>>> getBlocks(MCTSPlayer player, long state, Game game) {
+        return blocks.get(getKey(state, game), game.getTurnNum(), () -> player.getBlocks(game));
+    }
+
+    private static Long getKey(long state, Game game) {
+        // unordered ids, so sum of element hashes
+        long ids = 0;
+        for (Permanent permanent : game.getBattlefield().getAllPermanents()) {
+            ids += StateHash.element(StateHash.add(StateHash.EMPTY, permanent.getId()));
+        }
+        FastByteArrayOutputStream data = new FastByteArrayOutputStream(16 * 1024);
+        try (ObjectOutputStream out = new ObjectOutputStream(data)) {
+            for (Player player : game.getState().getPlayers().values()) {
+                out.writeInt(player.getLandsPlayed());
+                out.writeObject(player.getManaPool());
+            }
+            out.writeObject(game.getState().getWatchers());
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+        long other = 0;
+        byte[] bytes = data.getByteArray();
+        for (int i = 0; i < data.getSize(); i++) {
+            other = other * 31 + bytes[i];
+        }
+        for (ContinuousEffectsList<?> effects : game.getContinuousEffects().allEffectsLists) {
+            for (ContinuousEffect effect : effects) {
+                other += StateHash.element(StateHash.add(StateHash.EMPTY, effect.getId()));
+            }
+        }
+
+        for (Player player : game.getState().getPlayers().values()) {
+            for (UUID cardId : player.getHand()) {
+                ids += StateHash.element(StateHash.add(StateHash.EMPTY, cardId));
+            }
+            for (UUID cardId : player.getGraveyard()) {
+                ids += StateHash.element(StateHash.add(StateHash.EMPTY, cardId));
+            }
+        }
+        for (ExileZone zone : game.getExile().getExileZones()) {
+            for (UUID cardId : zone) {
+                ids += StateHash.element(StateHash.add(StateHash.EMPTY, cardId));
+            }
+        }
+        for (StackObject stackObject : game.getStack()) {
+            ids += StateHash.element(StateHash.add(StateHash.EMPTY, stackObject.getId()));
+        }
+        return StateHash.add(StateHash.add(state, ids), other);
+    }
+
+    /**
+     * Remove entries of turns before the given turn
+     *
+     * @return removed entries
+     */
+    public int cleanup(int turnNum) {
+        return playables.cleanup(turnNum) + attacks.cleanup(turnNum) + blocks.cleanup(turnNum);
+    }
+
+    public String getStats() {
+        return playables.getStats() + '\n' + attacks.getStats() + '\n' + blocks.getStats();
+    }
+}
@@ -0,0 +1,43 @@
+package mage.player.ai;
+
+import org.apache.log4j.Logger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.util.Properties;
+
+/**
+ * MCTS AI settings, loaded from AIMinimax.properties next to the plugin jar
+ */
+public final class MCTSConfig {
+
+    private static final Logger logger = Logger.getLogger(MCTSConfig.class);
+
+    // turns to play in simulated games before the evaluation, 0 - play to the end
+    public static final int rolloutTurns;
+    // reuse playable options, attacks and blocks of equal states (see MCTSActionCache)
+    public static final boolean useActionCache;
+
+    static {
+        Properties p = new Properties();
+        try {
+            File file = new File(MCTSConfig.class.getProtectionDomain().getCodeSource().getLocation().toURI().getPath());
+            File propertiesFile = new File(file.getParent() + File.separator + "AIMinimax.properties");
+            if (propertiesFile.exists()) {
+                try (InputStream in = new FileInputStream(propertiesFile)) {
+                    p.load(in);
+                }
+            }
+        } catch (IOException | URISyntaxException ex) {
+            logger.error(null, ex);
+        }
+        rolloutTurns = Integer.parseInt(p.getProperty("mctsRolloutTurns", "0"));
+        useActionCache = Boolean.parseBoolean(p.getProperty("mctsActionCache", "false"));
+    }
+
+    private MCTSConfig() {
+    }
+}
@@ -16,13 +16,22 @@ public class MCTSExecutor implements Callable<Boolean> {
     protected int thinkTime;
     protected UUID playerId;
     protected int simCount;
+    protected long endTime;
 
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
-    public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+    public MCTSExecutor(Game sim, UUID playerId, int thinkTime, MCTSActionCache actionCache) {
+        this(new MCTSNode(playerId, sim, actionCache), playerId, thinkTime);
+    }
+
+    /**
+     * Continue the search of an existing tree
+     */
+    public MCTSExecutor(MCTSNode root, UUID playerId, int thinkTime) {
+        this.root = root;
         this.playerId = playerId;
         this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        this.endTime = System.nanoTime() + thinkTime * 1000000000L;
     }
 
     @Override
@@ -31,7 +40,8 @@ public class MCTSExecutor implements Callable<Boolean> {
         MCTSNode current;
 
 
-        while (true) {
+        // the think time starts on creation, so a task that waited for a free thread doesn't delay the decision
+        while (System.nanoTime() < endTime && !Thread.currentThread().isInterrupted()) {
             current = root;
 
             // Selection
@@ -62,6 +72,7 @@ public class MCTSExecutor implements Callable<Boolean> {
             // Backpropagation
             current.backpropagate(result);
         }
+        return true;
     }
 
     public MCTSNode getRoot() {
@@ -3,11 +3,8 @@ package mage.player.ai;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -28,11 +25,13 @@ import org.apache.log4j.Logger;
  */
 public class MCTSNode {
 
-    public static final boolean USE_ACTION_CACHE = false;
     private static final double selectionCoefficient = Math.sqrt(2.0);
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
 
+    // simulated games stop after that many turns and the reached state is scored instead of playing to the end (0 - full games)
+    private static final int ROLLOUT_TURNS = MCTSConfig.rolloutTurns;
+
     private int visits = 0;
     private int wins = 0;
     private MCTSNode parent;
@@ -40,19 +39,21 @@ public class MCTSNode {
     private Ability action;
     private Game game;
     private Combat combat;
-    private final String stateValue;
-    private final String fullStateValue;
+    private final long stateValue;
+    private final long fullStateValue;
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
+    private final MCTSActionCache actionCache; // can be null
 
     private static int nodeCount;
 
-    public MCTSNode(UUID targetPlayer, Game game) {
+    public MCTSNode(UUID targetPlayer, Game game, MCTSActionCache actionCache) {
         this.targetPlayer = targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.actionCache = actionCache;
+        this.stateValue = game.getState().getHash(game, targetPlayer);
+        this.fullStateValue = game.getState().getFullHash(game);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
         nodeCount = 1;
@@ -62,8 +63,9 @@ public class MCTSNode {
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.actionCache = parent.actionCache;
+        this.stateValue = game.getState().getHash(game, targetPlayer);
+        this.fullStateValue = game.getState().getFullHash(game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
@@ -75,9 +77,10 @@ public class MCTSNode {
     protected MCTSNode(MCTSNode parent, Game game, Combat combat) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
+        this.actionCache = parent.actionCache;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getHash(game, targetPlayer);
+        this.fullStateValue = game.getState().getFullHash(game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
@@ -131,10 +134,10 @@ public class MCTSNode {
             case PRIORITY:
 //                logger.info("Priority for player:" + player.getName() + " turn: " + game.getTurnNum() + " phase: " + game.getTurnPhaseType() + " step: " + game.getTurnStepType());
                 List<Ability> abilities;
-                if (!USE_ACTION_CACHE)
+                if (actionCache == null)
                     abilities = player.getPlayableOptions(game);
                 else
-                    abilities = getPlayables(player, fullStateValue, game);
+                    abilities = actionCache.getPlayables(player, fullStateValue, game);
                 for (Ability ability: abilities) {
                     Game sim = game.copy();
 //                    logger.info("expand " + ability.toString());
@@ -147,10 +150,10 @@ public class MCTSNode {
             case SELECT_ATTACKERS:
 //                logger.info("Select attackers:" + player.getName());
                 List<List<UUID>> attacks;
-                if (!USE_ACTION_CACHE)
+                if (actionCache == null)
                     attacks = player.getAttacks(game);
                 else
-                    attacks = getAttacks(player, fullStateValue, game);
+                    attacks = actionCache.getAttacks(player, fullStateValue, game);
                 UUID defenderId = game.getOpponents(player.getId()).iterator().next();
                 for (List<UUID> attack: attacks) {
                     Game sim = game.copy();
@@ -165,10 +168,10 @@ public class MCTSNode {
             case SELECT_BLOCKERS:
 //                logger.info("Select blockers:" + player.getName());
                 List<List<List<UUID>>> blocks;
-                if (!USE_ACTION_CACHE)
+                if (actionCache == null)
                     blocks = player.getBlocks(game);
                 else
-                    blocks = getBlocks(player, fullStateValue, game);
+                    blocks = actionCache.getBlocks(player, fullStateValue, game);
                 for (List<List<UUID>> block: blocks) {
                     Game sim = game.copy();
                     MCTSPlayer simPlayer = (MCTSPlayer) sim.getPlayer(player.getId());
@@ -193,6 +196,10 @@ public class MCTSNode {
         Game sim = createSimulation(game, playerId);
         sim.resume();
 //        long duration = System.nanoTime() - startTime;
+        if (!sim.checkIfGameIsOver()) {
+            // stopped by the rollout limit
+            return GameStateEvaluator2.evaluate(playerId, sim).getTotalScore() > 0 ? 1 : -1;
+        }
         int retVal = -1;  //anything other than a win is a loss
         for (Player simPlayer: sim.getPlayers().values()) {
 //            logger.info(simPlayer.getName() + " calculated " + ((SimulatedPlayerMCTS)simPlayer).getActionCount() + " actions in " + duration/1000000000.0 + "s");
@@ -214,6 +221,13 @@ public class MCTSNode {
             parent.backpropagate(result);
     }
 
+    /**
+     * Search can continue from this node: it's expanded or still has its game
+     */
+    public boolean canSearch() {
+        return game != null || !children.isEmpty();
+    }
+
     public boolean isLeaf() {
         return children.isEmpty();
     }
@@ -280,7 +294,7 @@ public class MCTSNode {
         return nodeCount;
     }
 
-    public String getStateValue() {
+    public long getStateValue() {
         return stateValue;
     }
 
@@ -307,6 +321,9 @@ public class MCTSNode {
         for (Player oldPlayer: sim.getState().getPlayers().values()) {
             Player origPlayer = game.getState().getPlayers().get(oldPlayer.getId()).copy();
             SimulatedPlayerMCTS newPlayer = new SimulatedPlayerMCTS(oldPlayer, true);
+            if (ROLLOUT_TURNS > 0) {
+                newPlayer.setLastTurn(sim.getTurnNum() + ROLLOUT_TURNS);
+            }
             newPlayer.restore(origPlayer);
             sim.getState().getPlayers().put(oldPlayer.getId(), newPlayer);
         }
@@ -359,13 +376,13 @@ public class MCTSNode {
      * @param state - the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long state) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateValue == state)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -375,7 +392,7 @@ public class MCTSNode {
     }
 
     public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
+        if (stateValue != merge.stateValue) {
             logger.info("mismatched merge states at root");
             return;
         }
@@ -393,7 +410,7 @@ public class MCTSNode {
             for (MCTSNode mergeChild: mergeChildren) {
                 if (mergeChild.action != null && child.action != null) {
                     if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -407,7 +424,7 @@ public class MCTSNode {
                 }
                 else {
                     if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -451,100 +468,4 @@ public class MCTSNode {
         }
         return num;
     }
-
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
-
-    private static long playablesHit = 0;
-    private static long playablesMiss = 0;
-    private static long attacksHit = 0;
-    private static long attacksMiss = 0;
-    private static long blocksHit = 0;
-    private static long blocksMiss = 0;
-    
-    private static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
-        if (playablesCache.containsKey(state)) {
-            playablesHit++;
-            return playablesCache.get(state);
-        }
-        else {
-            playablesMiss++;
-            List<Ability> abilities = player.getPlayableOptions(game);
-            playablesCache.put(state, abilities);
-            return abilities;
-        }
-    }
-    
-    private static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
-        if (attacksCache.containsKey(state)) {
-            attacksHit++;
-            return attacksCache.get(state);
-        }
-        else {
-            attacksMiss++;
-            List<List<UUID>> attacks = player.getAttacks(game);
-            attacksCache.put(state, attacks);
-            return attacks;
-        }
-    }
-    
-    private static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
-        if (blocksCache.containsKey(state)) {
-            blocksHit++;
-            return blocksCache.get(state);
-        }
-        else {
-            blocksMiss++;
-            List<List<List<UUID>>> blocks = player.getBlocks(game);
-            blocksCache.put(state, blocks);
-            return blocks;
-        }
-    }
-    
-    public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
-        int count = 0;
-        while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.parseInt(next.split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                playablesIterator.remove();
-                count++;
-            }
-        }
-
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
-        while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(attacksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                attacksIterator.remove();
-                count++;
-            }
-        }
-        
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
-        while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(blocksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                blocksIterator.remove();
-                count++;
-            }
-        }
-
-        return count;
-    }
-    
-    public static void logHitMiss() {
-        if (USE_ACTION_CACHE) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("Playables Cache -- Hits: ").append(playablesHit).append(" Misses: ").append(playablesMiss).append('\n');
-            sb.append("Attacks Cache -- Hits: ").append(attacksHit).append(" Misses: ").append(attacksMiss).append('\n');
-            sb.append("Blocks Cache -- Hits: ").append(blocksHit).append(" Misses: ").append(blocksMiss).append('\n');
-            logger.info(sb.toString());
-        }
-    }    
 }
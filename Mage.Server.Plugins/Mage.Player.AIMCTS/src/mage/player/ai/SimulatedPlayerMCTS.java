@@ -32,6 +32,7 @@ public class SimulatedPlayerMCTS extends MCTSPlayer {
 
     private boolean isSimulatedPlayer;
     private int actionCount = 0;
+    private int lastTurn = 0; // 0 - play until the game ends
     private static final Logger logger = Logger.getLogger(SimulatedPlayerMCTS.class);
 
     public SimulatedPlayerMCTS(Player originalPlayer, boolean isSimulatedPlayer) {
@@ -43,6 +44,7 @@ public class SimulatedPlayerMCTS extends MCTSPlayer {
     public SimulatedPlayerMCTS(final SimulatedPlayerMCTS player) {
         super(player);
         this.isSimulatedPlayer = player.isSimulatedPlayer;
+        this.lastTurn = player.lastTurn;
     }
 
     @Override
@@ -58,9 +60,20 @@ public class SimulatedPlayerMCTS extends MCTSPlayer {
         return actionCount;
     }
 
+    /**
+     * Stop the simulated game at the first priority after the given turn
+     */
+    public void setLastTurn(int lastTurn) {
+        this.lastTurn = lastTurn;
+    }
+
     @Override
     public boolean priority(Game game) {
 //        logger.info("priority");
+        if (lastTurn > 0 && game.getTurnNum() > lastTurn) {
+            game.pause();
+            return false;
+        }
         boolean didSomething = false;
         Ability ability = getAction(game);
 //        logger.info("simulate " + ability.toString());
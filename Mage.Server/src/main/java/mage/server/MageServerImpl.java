@@ -815,6 +815,11 @@ public class MageServerImpl implements MageServer {
     public void sendPlayerAction(final PlayerAction playerAction, final UUID gameId, final String sessionId, final Object data) throws MageException {
         execute("sendPlayerAction", sessionId, () -> {
             managerFactory.sessionManager().getSession(sessionId).ifPresent(session -> {
+                if (playerAction == PlayerAction.CLIENT_RESYNC_GAME_VIEW) {
+                    // client lost a game update or prompt, next one must be full
+                    session.resetGameView(gameId, Boolean.TRUE.equals(data));
+                    return;
+                }
                 UUID userId = session.getUserId();
                 managerFactory.gameManager().sendPlayerAction(playerAction, gameId, userId, data);
             });
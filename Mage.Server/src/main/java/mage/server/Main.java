@@ -21,6 +21,7 @@ import mage.server.tournament.TournamentFactory;
 import mage.server.util.*;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
+import mage.util.Copier;
 import mage.utils.MageVersion;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.*;
@@ -175,6 +176,9 @@ public final class Main {
         logger.info("Done.");
         deleteSavedGames();
 
+        // plugin classes for encoded game states
+        Copier.setLoader(classLoader);
+
         int gameTypes = 0;
         for (GamePlugin plugin : config.getGameTypes()) {
             gameTypes++;
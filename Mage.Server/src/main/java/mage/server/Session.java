@@ -4,6 +4,7 @@ import mage.MageException;
 import mage.constants.Constants;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
+import mage.remote.traffic.GameViewEncoder;
 import mage.players.net.UserData;
 import mage.players.net.UserGroup;
 import mage.server.game.GamesRoom;
@@ -18,6 +19,7 @@ import org.jboss.remoting.callback.HandleCallbackException;
 import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
@@ -34,6 +36,7 @@ public class Session {
     private static final Logger logger = Logger.getLogger(Session.class);
     private static final Pattern alphabetsPattern = Pattern.compile("[a-zA-Z]");
     private static final Pattern digitsPattern = Pattern.compile("[0-9]");
+    private static final int MAX_CALLBACK_QUEUE_SIZE = 1000;
 
     public static final String REGISTRATION_DISABLED_MESSAGE = "Registration has been disabled on the server. You can use any name and empty password to login.";
 
@@ -45,10 +48,14 @@ public class Session {
     private final Date timeConnected;
     private boolean isAdmin = false;
     private final AsynchInvokerCallbackHandler callbackHandler;
-    private boolean valid = true;
+    private volatile boolean valid = true;
 
     private final ReentrantLock lock;
-    private final ReentrantLock callBackLock;
+    private final SessionCallbackQueue callbackQueue = new SessionCallbackQueue(MAX_CALLBACK_QUEUE_SIZE);
+    // game updates are sent as delta to the previous update of the same game
+    private final Map<UUID, GameViewEncoder> gameViewEncoders = new ConcurrentHashMap<>();
+    // last prompt of each game, it's sent again if the client can't decode it
+    private final Map<UUID, ClientCallback> lastPrompts = new ConcurrentHashMap<>();
 
     public Session(ManagerFactory managerFactory, String sessionId, InvokerCallbackHandler callbackHandler) {
         this.managerFactory = managerFactory;
@@ -57,7 +64,6 @@ public class Session {
         this.isAdmin = false;
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
-        this.callBackLock = new ReentrantLock();
     }
 
     public String registerUser(String userName, String password, String email) throws MageException {
@@ -394,17 +400,50 @@ public class Session {
 
     }
 
+    /**
+     * Queue the callback for sending, the caller (e.g. game thread) never waits for the client.
+     * If the client can't keep up, game updates are dropped and other callbacks disconnect the session,
+     * see {@link SessionCallbackQueue}.
+     */
     public void fireCallback(final ClientCallback call) {
-        boolean lockSet = false;
+        if (!valid) {
+            return;
+        }
+        switch (callbackQueue.add(call)) {
+            case START_SENDING:
+                managerFactory.threadExecutor().getCallbackExecutor().execute(this::sendCallbacks);
+                break;
+            case DROPPED:
+                logger.warn("SESSION CALLBACK QUEUE FULL - userId: " + userId + " dropped: " + call.getMethod());
+                break;
+            case OVERFLOW:
+                // the client can't lose it (e.g. a prompt), so it must reconnect and get the full state
+                this.valid = false;
+                callbackQueue.clear();
+                managerFactory.userManager().getUser(userId).ifPresent(user -> {
+                    user.setUserState(User.UserState.Disconnected);
+                    logger.warn("SESSION CALLBACK QUEUE FULL - " + user.getName() + " userId " + userId + " can't get: " + call.getMethod() + ", disconnecting");
+                    managerFactory.sessionManager().disconnect(sessionId, LostConnection);
+                });
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void sendCallbacks() {
+        ClientCallback call;
+        while ((call = callbackQueue.poll(valid)) != null) {
+            sendCallback(call);
+        }
+    }
+
+    private void sendCallback(final ClientCallback call) {
         try {
-            if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
-                call.setMessageId(messageId.incrementAndGet());
-                lockSet = true;
-                Callback callback = new Callback(call);
-                callbackHandler.handleCallbackOneway(callback);
-            }
-        } catch (InterruptedException ex) {
-            logger.warn("SESSION LOCK - fireCallback - userId: " + userId + " messageId: " + call.getMessageId(), ex);
+            call.setMessageId(messageId.incrementAndGet());
+            encodeGameView(call);
+            Callback callback = new Callback(call);
+            callbackHandler.handleCallbackOneway(callback);
         } catch (HandleCallbackException ex) {
             this.valid = false;
             managerFactory.userManager().getUser(userId).ifPresent(user -> {
@@ -415,10 +454,69 @@ public class Session {
             });
         } catch (Exception ex) {
             logger.warn("Unspecific exception:", ex);
-        } finally {
-            if (lockSet) {
-                callBackLock.unlock();
-            }
+        }
+    }
+
+    public int getCallbackQueueSize() {
+        return callbackQueue.size();
+    }
+
+    public int getCallbacksDropped() {
+        return callbackQueue.getDropped();
+    }
+
+    public int getCallbacksCoalesced() {
+        return callbackQueue.getCoalesced();
+    }
+
+    /**
+     * Must be called in send order: dropped and coalesced updates aren't encoded, so the client never misses a base update
+     */
+    private void encodeGameView(ClientCallback call) {
+        if (call.getObjectId() == null) {
+            return;
+        }
+        switch (call.getMethod()) {
+            case GAME_UPDATE:
+                call.encodeData(gameViewEncoders.computeIfAbsent(call.getObjectId(), id -> new GameViewEncoder()));
+                break;
+            case GAME_ASK:
+            case GAME_TARGET:
+            case GAME_SELECT:
+            case GAME_CHOOSE_ABILITY:
+            case GAME_CHOOSE_PILE:
+            case GAME_CHOOSE_CHOICE:
+            case GAME_PLAY_MANA:
+            case GAME_PLAY_XMANA:
+            case GAME_GET_AMOUNT:
+            case GAME_GET_MULTI_AMOUNT:
+                if (!call.isDataCompressed()) {
+                    lastPrompts.put(call.getObjectId(), new ClientCallback(call.getMethod(), call.getObjectId(), call.getData(), false));
+                }
+                call.encodeData(gameViewEncoders.computeIfAbsent(call.getObjectId(), id -> new GameViewEncoder()));
+                break;
+            case GAME_OVER:
+                gameViewEncoders.remove(call.getObjectId());
+                lastPrompts.remove(call.getObjectId());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Send the next game update in full (client lost an update)
+     *
+     * @param promptLost client can't decode a prompt, so the last one is sent again
+     */
+    public void resetGameView(UUID gameId, boolean promptLost) {
+        GameViewEncoder encoder = gameViewEncoders.get(gameId);
+        if (encoder != null) {
+            encoder.reset();
+        }
+        ClientCallback prompt = promptLost ? lastPrompts.remove(gameId) : null;
+        if (prompt != null) {
+            fireCallback(prompt);
         }
     }
 
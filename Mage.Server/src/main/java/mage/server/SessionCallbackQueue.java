@@ -0,0 +1,95 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Outbound callbacks of a session, sent in order by one callback thread at a time.
+ * <p>
+ * A game update replaces the not sent update of the same game. If the client can't keep up and the
+ * queue is full, callbacks with a state that the next callback of the same type contains too (e.g. game
+ * updates) or chat messages are dropped. Other callbacks (e.g. prompts or game over) must not be lost,
+ * so they overflow the queue and the session must be disconnected (client gets the full state on reconnect).
+ */
+class SessionCallbackQueue {
+
+    enum Result {
+        QUEUED, // sending thread is already running
+        START_SENDING, // caller must start the sending thread
+        DROPPED,
+        OVERFLOW
+    }
+
+    private static final Set<ClientCallbackMethod> DROPPABLE = EnumSet.of(
+            ClientCallbackMethod.GAME_UPDATE,
+            ClientCallbackMethod.DRAFT_UPDATE,
+            ClientCallbackMethod.TOURNAMENT_UPDATE,
+            ClientCallbackMethod.CHATMESSAGE
+    );
+
+    private final int maxSize;
+    private final Deque<ClientCallback> queue = new ArrayDeque<>();
+    private boolean sending = false;
+    private int dropped;
+    private int coalesced;
+
+    SessionCallbackQueue(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    synchronized Result add(ClientCallback call) {
+        if (call.getMethod() == ClientCallbackMethod.GAME_UPDATE && call.getObjectId() != null
+                && queue.removeIf(queued -> queued.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                && call.getObjectId().equals(queued.getObjectId()))) {
+            coalesced++;
+        }
+        if (queue.size() >= maxSize) {
+            if (DROPPABLE.contains(call.getMethod())) {
+                dropped++;
+                return Result.DROPPED;
+            }
+            return Result.OVERFLOW;
+        }
+        queue.add(call);
+        if (sending) {
+            return Result.QUEUED;
+        }
+        sending = true;
+        return Result.START_SENDING;
+    }
+
+    /**
+     * Next callback to send, null stops the sending thread
+     *
+     * @param valid false - session is closed, queue is cleared
+     */
+    synchronized ClientCallback poll(boolean valid) {
+        ClientCallback call = valid ? queue.poll() : null;
+        if (call == null) {
+            queue.clear();
+            sending = false;
+        }
+        return call;
+    }
+
+    synchronized void clear() {
+        queue.clear();
+    }
+
+    synchronized int size() {
+        return queue.size();
+    }
+
+    synchronized int getDropped() {
+        return dropped;
+    }
+
+    synchronized int getCoalesced() {
+        return coalesced;
+    }
+}
@@ -2,6 +2,7 @@ package mage.server;
 
 import mage.MageException;
 import mage.cards.decks.DeckCardLists;
+import mage.cards.repository.CardRepository;
 import mage.constants.TableState;
 import mage.game.Game;
 import mage.game.GameException;
@@ -434,6 +435,7 @@ public class TableManagerImpl implements TableManager {
         for (Entry<UUID, GameController> entry : managerFactory.gameManager().getGameController().entrySet()) {
             logger.debug(entry.getKey() + entry.getValue().getPlayerNameList());
         }
+        logger.debug("------- Cards cache: " + CardRepository.instance.getCacheStatsInfo());
         logger.debug("--- Server state END ------------------------------------------");
     }
 
@@ -118,6 +118,15 @@ public class User {
         return sessionId;
     }
 
+    /**
+     * Callback send queue state for admins: queued, dropped (queue full) and coalesced (replaced game updates)
+     */
+    public String getSendQueueInfo() {
+        return managerFactory.sessionManager().getSession(sessionId)
+                .map(session -> session.getCallbackQueueSize() + " / " + session.getCallbacksDropped() + " / " + session.getCallbacksCoalesced())
+                .orElse("");
+    }
+
     public Date getChatLockedUntil() {
         return chatLockedUntil;
     }
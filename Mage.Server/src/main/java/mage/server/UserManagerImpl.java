@@ -271,7 +271,8 @@ public class UserManagerImpl implements UserManager {
                         user.getChatLockedUntil(),
                         user.getClientVersion(),
                         user.getEmail(),
-                        user.getUserIdStr()
+                        user.getUserIdStr(),
+                        user.getSendQueueInfo()
                 ));
             }
             userInfoList = newUserInfoList;
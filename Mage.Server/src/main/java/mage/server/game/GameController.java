@@ -22,12 +22,14 @@ import mage.game.match.MatchPlayer;
 import mage.game.permanent.Permanent;
 import mage.game.turn.Phase;
 import mage.interfaces.Action;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
 import mage.server.Main;
 import mage.server.User;
 import mage.server.managers.ManagerFactory;
 import mage.server.util.Splitter;
 import mage.server.util.SystemUtil;
+import mage.utils.CompressUtil;
 import mage.utils.StreamUtils;
 import mage.utils.timer.PriorityTimer;
 import mage.view.*;
@@ -787,8 +789,37 @@ public class GameController implements GameCallback {
         for (final GameSessionPlayer gameSession : getGameSessions()) {
             gameSession.update();
         }
+        updateWatchers();
+    }
+
+    /**
+     * Watchers mostly get the same view, so it's created and compressed once for all of them
+     */
+    private void updateWatchers() {
+        Object sharedView = null;
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+            if (!gameWatcher.hasSharedView()) {
+                gameWatcher.update();
+                continue;
+            }
+            if (sharedView == null) {
+                sharedView = CompressUtil.compress(GameSessionWatcher.getSharedGameView(game));
+            }
+            gameWatcher.sendShared(ClientCallbackMethod.GAME_UPDATE, sharedView);
+        }
+    }
+
+    private void informWatchers(String message) {
+        Object sharedMessage = null;
+        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
+            if (!watcher.hasSharedView()) {
+                watcher.inform(message);
+                continue;
+            }
+            if (sharedMessage == null) {
+                sharedMessage = CompressUtil.compress(new GameClientMessage(GameSessionWatcher.getSharedGameView(game), null, message));
+            }
+            watcher.sendShared(ClientCallbackMethod.GAME_INFORM, sharedMessage);
         }
     }
 
@@ -885,9 +916,7 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message.toString());
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message.toString());
-        }
+        informWatchers(message.toString());
     }
 
     private void informOthers(List<UUID> players) throws MageException {
@@ -906,9 +935,7 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message);
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message);
-        }
+        informWatchers(message);
     }
 
     private synchronized void informPersonal(UUID playerId, final String message) throws MageException {
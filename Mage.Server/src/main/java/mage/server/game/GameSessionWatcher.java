@@ -51,11 +51,22 @@ public class GameSessionWatcher {
 
     public void update() {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView(), false)));
         }
 
     }
 
+    /**
+     * Send data prepared once for all watchers with the shared game view, see {@link #hasSharedView()}
+     *
+     * @param compressedData compressed data with {@link #getSharedGameView(Game)}
+     */
+    public void sendShared(ClientCallbackMethod method, Object compressedData) {
+        if (!killed) {
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(method, game.getId(), compressedData)));
+        }
+    }
+
     public void inform(final String message) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM, game.getId(), new GameClientMessage(getGameView(), null, message))));
@@ -102,6 +113,17 @@ public class GameSessionWatcher {
         return gameView;
     }
 
+    /**
+     * Game view of watchers without own data (watched hands), the same for all of them
+     */
+    public static GameView getSharedGameView(Game game) {
+        return new GameView(game.getState(), game, null, null);
+    }
+
+    public boolean hasSharedView() {
+        return game.getPlayers().values().stream().noneMatch(player -> player.hasUserPermissionToSeeHand(userId));
+    }
+
     protected static void processWatchedHands(Game game, UUID userId, GameView gameView) {
         Map<String, SimpleCardsView> handCards = new HashMap<>();
         for (Player player : game.getPlayers().values()) {
@@ -10,6 +10,8 @@ public interface ThreadExecutor {
 
     ExecutorService getGameExecutor();
 
+    ExecutorService getCallbackExecutor();
+
     ScheduledExecutorService getTimeoutExecutor();
 
     ScheduledExecutorService getTimeoutIdleExecutor();
@@ -11,6 +11,7 @@ import java.util.concurrent.*;
 public class ThreadExecutorImpl implements ThreadExecutor {
     private final ExecutorService callExecutor;
     private final ExecutorService gameExecutor;
+    private final ExecutorService callbackExecutor; // sends client callbacks, max one thread per session
     private final ScheduledExecutorService timeoutExecutor;
     private final ScheduledExecutorService timeoutIdleExecutor;
 
@@ -28,6 +29,7 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     public ThreadExecutorImpl(ConfigSettings config) {
         callExecutor = Executors.newCachedThreadPool();
         gameExecutor = Executors.newFixedThreadPool(config.getMaxGameThreads());
+        callbackExecutor = Executors.newCachedThreadPool();
         timeoutExecutor = Executors.newScheduledThreadPool(4);
         timeoutIdleExecutor = Executors.newScheduledThreadPool(4);
 
@@ -37,6 +39,9 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XMageThreadFactory("GAME"));
+        ((ThreadPoolExecutor) callbackExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) callbackExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) callbackExecutor).setThreadFactory(new XMageThreadFactory("CALLBACK"));
         ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) timeoutExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) timeoutExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT"));
@@ -64,6 +69,11 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         return gameExecutor;
     }
 
+    @Override
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     @Override
     public ScheduledExecutorService getTimeoutExecutor() {
         return timeoutExecutor;
@@ -0,0 +1,66 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionCallbackQueueTest {
+
+    private static ClientCallback update(UUID gameId, String data) {
+        return new ClientCallback(ClientCallbackMethod.GAME_UPDATE, gameId, data, false);
+    }
+
+    @Test
+    void testCoalesceGameUpdates() {
+        SessionCallbackQueue queue = new SessionCallbackQueue(10);
+        UUID game1 = UUID.randomUUID();
+        UUID game2 = UUID.randomUUID();
+
+        assertThat(queue.add(update(game1, "1"))).isEqualTo(SessionCallbackQueue.Result.START_SENDING);
+        assertThat(queue.add(update(game2, "2"))).isEqualTo(SessionCallbackQueue.Result.QUEUED);
+        assertThat(queue.add(new ClientCallback(ClientCallbackMethod.GAME_ASK, game1, "ask", false))).isEqualTo(SessionCallbackQueue.Result.QUEUED);
+        assertThat(queue.add(update(game1, "3"))).isEqualTo(SessionCallbackQueue.Result.QUEUED);
+
+        // older update of the same game is replaced, other callbacks keep the order
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.getCoalesced()).isEqualTo(1);
+        assertThat(queue.poll(true).getObjectId()).isEqualTo(game2);
+        assertThat(queue.poll(true).getMethod()).isEqualTo(ClientCallbackMethod.GAME_ASK);
+        assertThat(queue.poll(true).getData()).isEqualTo("3");
+        assertThat(queue.poll(true)).isNull();
+
+        // sending thread stopped, so next callback starts a new one
+        assertThat(queue.add(update(game1, "4"))).isEqualTo(SessionCallbackQueue.Result.START_SENDING);
+    }
+
+    @Test
+    void testOverflow() {
+        SessionCallbackQueue queue = new SessionCallbackQueue(2);
+        queue.add(new ClientCallback(ClientCallbackMethod.GAME_INFORM, UUID.randomUUID(), "1", false));
+        queue.add(new ClientCallback(ClientCallbackMethod.GAME_INFORM, UUID.randomUUID(), "2", false));
+
+        // state updates and chat can be dropped
+        assertThat(queue.add(update(UUID.randomUUID(), "3"))).isEqualTo(SessionCallbackQueue.Result.DROPPED);
+        assertThat(queue.add(new ClientCallback(ClientCallbackMethod.CHATMESSAGE, UUID.randomUUID(), "4", false))).isEqualTo(SessionCallbackQueue.Result.DROPPED);
+        assertThat(queue.getDropped()).isEqualTo(2);
+
+        // prompts and game end must not be lost
+        assertThat(queue.add(new ClientCallback(ClientCallbackMethod.GAME_TARGET, UUID.randomUUID(), "5", false))).isEqualTo(SessionCallbackQueue.Result.OVERFLOW);
+        assertThat(queue.add(new ClientCallback(ClientCallbackMethod.GAME_OVER, UUID.randomUUID(), "6", false))).isEqualTo(SessionCallbackQueue.Result.OVERFLOW);
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testClearOnClosedSession() {
+        SessionCallbackQueue queue = new SessionCallbackQueue(10);
+        queue.add(update(UUID.randomUUID(), "1"));
+        queue.add(update(UUID.randomUUID(), "2"));
+
+        assertThat(queue.poll(false)).isNull();
+        assertThat(queue.size()).isZero();
+    }
+}
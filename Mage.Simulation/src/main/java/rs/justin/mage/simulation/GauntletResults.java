@@ -0,0 +1,117 @@
+package rs.justin.mage.simulation;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Gauntlet results file, one JSON object per finished match (JSONL).
+ * <p>
+ * Every line is flushed as soon as the match is over, so the file can be watched while the run is going on.
+ * Matches already in the file are counted on open, which lets a crashed run continue where it stopped.
+ */
+public class GauntletResults implements Closeable {
+
+  private static final Logger logger = LogManager.getLogger(GauntletResults.class);
+
+  private static final Gson gson = new Gson();
+
+  public static class Result {
+    String deck1;
+    String deck2;
+    int match;
+    String outcome;
+    String winner;
+    long timeMs;
+
+    public Result() {
+    }
+
+    public Result(String deck1, String deck2, int match, SimulationReport.Outcome outcome, String winner, long nanos) {
+      this.deck1 = deck1;
+      this.deck2 = deck2;
+      this.match = match;
+      this.outcome = outcome.name();
+      this.winner = winner;
+      this.timeMs = nanos / 1000000;
+    }
+  }
+
+  private final Map<String, Integer> played = new HashMap<>();
+  private final BufferedWriter writer;
+
+  public GauntletResults(Path file) throws IOException {
+    if (Files.exists(file)) {
+      try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (line.trim().isEmpty()) {
+            continue;
+          }
+          try {
+            Result result = gson.fromJson(line, Result.class);
+            played.merge(key(result.deck1, result.deck2), 1, Integer::sum);
+          } catch (JsonParseException e) {
+            // last line of a crashed run can be cut off
+            logger.warn("Skipping broken result line: {}", line);
+          }
+        }
+      }
+    }
+    boolean cutOff = endsWithoutNewLine(file);
+    writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    if (cutOff) {
+      writer.newLine();
+    }
+  }
+
+  /**
+   * @return number of matches already in the results file for the pairing
+   */
+  public synchronized int getPlayed(String deck1, String deck2) {
+    return played.getOrDefault(key(deck1, deck2), 0);
+  }
+
+  public synchronized void write(Result result) {
+    try {
+      writer.write(gson.toJson(result));
+      writer.newLine();
+      writer.flush();
+      played.merge(key(result.deck1, result.deck2), 1, Integer::sum);
+    } catch (IOException e) {
+      logger.error("Failed to write result: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    writer.close();
+  }
+
+  private static boolean endsWithoutNewLine(Path file) throws IOException {
+    if (!Files.exists(file) || Files.size(file) == 0) {
+      return false;
+    }
+    try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+      raf.seek(raf.length() - 1);
+      return raf.read() != '\n';
+    }
+  }
+
+  private static String key(String deck1, String deck2) {
+    return deck1 + '\n' + deck2;
+  }
+}
@@ -31,10 +31,12 @@ import org.apache.logging.log4j.Logger;
 import rs.justin.mage.utils.Combinations;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Supplier;
 
 @Parameters(separators = "=, ")
 public class Main {
@@ -74,6 +76,20 @@ public class Main {
   )
   private int matches = 1;
 
+  @Parameter(
+      names = {"--threads", "-t"},
+      description = "Number of matches to simulate in parallel, each worker plays on its own copy of the game",
+      arity = 1
+  )
+  private int threads = 1;
+
+  @Parameter(
+      names = {"--output", "-o"},
+      description = "Gauntlet results file (JSONL), an existing file is resumed, default: gauntlet-results.jsonl",
+      arity = 1
+  )
+  private String output = "gauntlet-results.jsonl";
+
   @Parameter(names = {"--help", "-h"}, help = true)
   private boolean help;
 
@@ -110,6 +126,10 @@ public class Main {
         init();
         commander();
         break;
+      case "gauntlet":
+        init();
+        gauntlet();
+        break;
     }
 
     cleanup();
@@ -157,6 +177,10 @@ public class Main {
       return;
     }
 
+    runGames(() -> createDuel(decks.get(0), decks.get(1)));
+  }
+
+  private SimulationGame createDuel(String deckFile1, String deckFile2) {
     Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 20);
 
     MatchOptions matchOptions = new MatchOptions("TwoPlayerDuelSimulation", "TwoPlayerDuel", false, 2);
@@ -166,31 +190,26 @@ public class Main {
 
     TwoPlayerMatch match = new TwoPlayerMatch(matchOptions);
 
-    try {
-      Deck deck1 = loadDeck(decks.get(0));
-      Deck deck2 = loadDeck(decks.get(1));
-      Player player1 = PlayerFactory.instance.createPlayer(PlayerType.COMPUTER_MAD, "1", RangeOfInfluence.ALL, 10).get();
-      Player player2 = PlayerFactory.instance.createPlayer(PlayerType.COMPUTER_MAD, "2", RangeOfInfluence.ALL, 10).get();
+    Deck deck1 = loadDeck(deckFile1);
+    Deck deck2 = loadDeck(deckFile2);
+    Player player1 = PlayerFactory.instance.createPlayer(PlayerType.COMPUTER_MAD, "1", RangeOfInfluence.ALL, 10).get();
+    Player player2 = PlayerFactory.instance.createPlayer(PlayerType.COMPUTER_MAD, "2", RangeOfInfluence.ALL, 10).get();
 
-      player1.setMatchPlayer(new MatchPlayer(player2, deck2, match));
-      player2.setMatchPlayer(new MatchPlayer(player1, deck1, match));
+    player1.setMatchPlayer(new MatchPlayer(player2, deck2, match));
+    player2.setMatchPlayer(new MatchPlayer(player1, deck1, match));
 
-      game.addPlayer(player1, deck1);
-      game.loadCards(deck1.getCards(), player1.getId());
+    game.addPlayer(player1, deck1);
+    game.loadCards(deck1.getCards(), player1.getId());
 
-      game.addPlayer(player2, deck2);
-      game.loadCards(deck2.getCards(), player2.getId());
+    game.addPlayer(player2, deck2);
+    game.loadCards(deck2.getCards(), player2.getId());
 
-      GameOptions options = new GameOptions();
-      options.testMode = false;
+    GameOptions options = new GameOptions();
+    options.testMode = false;
 
-      game.setGameOptions(options);
+    game.setGameOptions(options);
 
-      runGame(game, player1);
-    } catch (RuntimeException e) {
-      exit = -1;
-      // error already handled
-    }
+    return new SimulationGame(game, player1.getId());
   }
 
   private void commander() {
@@ -199,6 +218,11 @@ public class Main {
       exit = -1;
       return;
     }
+
+    runGames(this::createCommander);
+  }
+
+  private SimulationGame createCommander() {
     Game game = new CommanderFreeForAll(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, MulliganType.GAME_DEFAULT.getMulligan(0), 40);
 
     MatchOptions matchOptions = new MatchOptions("CommanderSimulation", "Commander", true, decks.size());
@@ -244,50 +268,95 @@ public class Main {
 
       game.setGameOptions(options);
 
-      runGame(game, players.get(random.nextInt(decks.size())));
+      return new SimulationGame(game, players.get(random.nextInt(decks.size())).getId());
     } catch (RuntimeException e) {
       logger.fatal(e);
-      exit = -1;
-      // error already handled
+      throw e;
     }
   }
 
-  private void runGame(Game game, Player startingPlayer) {
-    int wins = 0;
-    int loses = 0;
-    int draws = 0;
-
-    for (int i = 0; i < matches; i++) {
-      Game tmp = game.copy();
-      long start = System.nanoTime();
-      tmp.start(startingPlayer.getId());
-      long stop = System.nanoTime();
-
-      logger.info("Time: {} ms", (stop - start) / 1000000);
-
-      String winner = tmp.getWinner();
-      System.out.println(winner);
-
-      switch (winner.contains("draw") ? 2 : winner.contains("1") ? 0 : 1) {
-        case 0:
-          wins += 1;
-          break;
-        case 1:
-          loses += 1;
-          break;
-        case 2:
-          draws += 1;
-          break;
+  /**
+   * Plays every pairing of the given decks, results are appended to the output file after every match.
+   */
+  private void gauntlet() {
+    if (decks == null || decks.size() < 2) {
+      logger.fatal("Wrong number of decks, expected at least 2");
+      exit = -1;
+      return;
+    }
+
+    List<Integer> deckIndexes = new ArrayList<>(decks.size());
+    for (int i = 0; i < decks.size(); i++) {
+      deckIndexes.add(i);
+    }
+
+    try (GauntletResults results = new GauntletResults(Paths.get(output))) {
+      SimulationReport total = new SimulationReport();
+      for (List<Integer> pairing : Combinations.combinations(deckIndexes, 2)) {
+        String deck1 = decks.get(pairing.get(0));
+        String deck2 = decks.get(pairing.get(1));
+        int done = results.getPlayed(deck1, deck2);
+        if (done >= matches) {
+          logger.info("Skipping {} vs {}, already played", deck1, deck2);
+          continue;
+        }
+
+        List<SimulationGame> games = createGames(() -> createDuel(deck1, deck2), matches - done);
+        if (games == null) {
+          total.recordError();
+          continue;
+        }
+
+        SimulationReport report = new MatchRunner(games, matches - done)
+            .setStopWhenDecided(false)
+            .setListener((match, outcome, winner, nanos) ->
+                results.write(new GauntletResults.Result(deck1, deck2, done + match + 1, outcome, winner, nanos)))
+            .run();
+        System.out.println(deck1 + " vs " + deck2 + ": " + report.summary());
+        total.merge(report);
       }
+      System.out.println(total.summary());
+      exit = total.getErrors() > 0 ? -1 : 0;
+    } catch (IOException e) {
+      logger.fatal("Failed to open results file {}: {}", output, e.getMessage());
+      exit = -1;
+    }
+  }
 
-      if (wins > matches - i) {
-        System.out.println("Player 1 wins");
-        exit = 0;
-        return;
+  private List<SimulationGame> createGames(Supplier<SimulationGame> factory, int matches) {
+    int workers = Math.max(1, Math.min(threads, matches));
+    List<SimulationGame> games = new ArrayList<>(workers);
+    try {
+      // every worker gets its own game, players and cards
+      for (int i = 0; i < workers; i++) {
+        games.add(factory.get());
       }
+    } catch (RuntimeException e) {
+      // error already handled
+      return null;
+    }
+    return games;
+  }
+
+  private void runGames(Supplier<SimulationGame> factory) {
+    List<SimulationGame> games = createGames(factory, matches);
+    if (games == null) {
+      exit = -1;
+      return;
     }
 
-    if (loses > wins && loses > draws) {
+    SimulationReport report = new MatchRunner(games, matches).run();
+
+    System.out.println(report.summary());
+
+    int wins = report.getWins();
+    int loses = report.getLosses();
+    int draws = report.getDraws();
+
+    if (report.isDecidedEarly()) {
+      System.out.println("Player 1 wins");
+      exit = 0;
+    } else if (loses > wins && loses > draws) {
       System.out.println("Player 1 loses");
       exit = 1;
     } else if (wins > loses && wins > draws) {
@@ -0,0 +1,143 @@
+package rs.justin.mage.simulation;
+
+import mage.game.Game;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays a number of matches over a pool of workers.
+ * <p>
+ * Every worker owns one {@link SimulationGame} (own game, players and cards) and plays copies of it,
+ * so nothing mutable is shared between threads. The per-worker reports are merged into one.
+ */
+public class MatchRunner {
+
+  private static final Logger logger = LogManager.getLogger(MatchRunner.class);
+
+  /**
+   * Called from the worker threads after every finished match.
+   */
+  @FunctionalInterface
+  public interface MatchListener {
+    void matchFinished(int match, SimulationReport.Outcome outcome, String winner, long nanos);
+  }
+
+  private final List<SimulationGame> games;
+  private final int matches;
+
+  private MatchListener listener;
+  private boolean stopWhenDecided = true;
+
+  private final AtomicInteger nextMatch = new AtomicInteger();
+  private final AtomicInteger played = new AtomicInteger();
+  private final AtomicInteger wins = new AtomicInteger();
+  private final AtomicBoolean decided = new AtomicBoolean();
+
+  /**
+   * @param games   one game per worker, the pool size is {@code games.size()}
+   * @param matches total number of matches to play
+   */
+  public MatchRunner(List<SimulationGame> games, int matches) {
+    this.games = games;
+    this.matches = matches;
+  }
+
+  public MatchRunner setListener(MatchListener listener) {
+    this.listener = listener;
+    return this;
+  }
+
+  /**
+   * @param stopWhenDecided stop once player 1 can't lose the majority anymore (default = true)
+   */
+  public MatchRunner setStopWhenDecided(boolean stopWhenDecided) {
+    this.stopWhenDecided = stopWhenDecided;
+    return this;
+  }
+
+  public SimulationReport run() {
+    SimulationReport report = new SimulationReport();
+    if (games.size() == 1) {
+      return report.merge(work(games.get(0)));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(games.size());
+    try {
+      List<Future<SimulationReport>> results = new ArrayList<>(games.size());
+      for (SimulationGame game : games) {
+        Callable<SimulationReport> worker = () -> work(game);
+        results.add(executor.submit(worker));
+      }
+      for (Future<SimulationReport> result : results) {
+        try {
+          report.merge(result.get());
+        } catch (ExecutionException e) {
+          logger.error("Simulation worker failed", e.getCause());
+          report.recordError();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.error("Simulation interrupted");
+    } finally {
+      executor.shutdownNow();
+    }
+    return report;
+  }
+
+  private SimulationReport work(SimulationGame game) {
+    SimulationReport report = new SimulationReport();
+    int i;
+    while (!decided.get() && (i = nextMatch.getAndIncrement()) < matches) {
+      Game tmp = game.getGame().copy();
+      long start = System.nanoTime();
+      try {
+        tmp.start(game.getStartingPlayerId());
+      } catch (Exception e) {
+        logger.error("Match {} failed: {}", i + 1, e.getMessage(), e);
+        report.recordError();
+        continue;
+      }
+      long stop = System.nanoTime();
+
+      logger.info("Time: {} ms", (stop - start) / 1000000);
+
+      String winner = tmp.getWinner();
+      System.out.println(winner);
+
+      SimulationReport.Outcome outcome = outcome(winner);
+      report.record(outcome, stop - start);
+      if (listener != null) {
+        listener.matchFinished(i, outcome, winner, stop - start);
+      }
+
+      if (!stopWhenDecided) {
+        continue;
+      }
+      int totalWins = outcome == SimulationReport.Outcome.WIN ? wins.incrementAndGet() : wins.get();
+      int totalPlayed = played.incrementAndGet();
+      if (totalWins > matches - totalPlayed + 1) {
+        decided.set(true);
+        report.setDecidedEarly(true);
+      }
+    }
+    return report;
+  }
+
+  static SimulationReport.Outcome outcome(String winner) {
+    if (winner.contains("draw")) {
+      return SimulationReport.Outcome.DRAW;
+    }
+    return winner.contains("1") ? SimulationReport.Outcome.WIN : SimulationReport.Outcome.LOSS;
+  }
+}
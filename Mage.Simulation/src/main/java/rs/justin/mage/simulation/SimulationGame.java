@@ -0,0 +1,27 @@
+package rs.justin.mage.simulation;
+
+import mage.game.Game;
+
+import java.util.UUID;
+
+/**
+ * A fully set up game (players, decks, options) that is copied for every simulated match.
+ */
+public class SimulationGame {
+
+  private final Game game;
+  private final UUID startingPlayerId;
+
+  public SimulationGame(Game game, UUID startingPlayerId) {
+    this.game = game;
+    this.startingPlayerId = startingPlayerId;
+  }
+
+  public Game getGame() {
+    return game;
+  }
+
+  public UUID getStartingPlayerId() {
+    return startingPlayerId;
+  }
+}
@@ -0,0 +1,112 @@
+package rs.justin.mage.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Win/loss/draw tallies, per-game timings and error counts of a simulation run, seen from player 1.
+ * <p>
+ * Not thread safe: every worker keeps its own report, the runner merges them at the end.
+ */
+public class SimulationReport {
+
+  public enum Outcome {
+    WIN,
+    LOSS,
+    DRAW
+  }
+
+  private int wins = 0;
+  private int losses = 0;
+  private int draws = 0;
+  private int errors = 0;
+  private boolean decidedEarly = false;
+
+  private final List<Long> timings = new ArrayList<>();
+
+  public void record(Outcome outcome, long nanos) {
+    switch (outcome) {
+      case WIN:
+        wins += 1;
+        break;
+      case LOSS:
+        losses += 1;
+        break;
+      case DRAW:
+        draws += 1;
+        break;
+    }
+    timings.add(nanos);
+  }
+
+  public void recordError() {
+    errors += 1;
+  }
+
+  public void setDecidedEarly(boolean decidedEarly) {
+    this.decidedEarly = decidedEarly;
+  }
+
+  public SimulationReport merge(SimulationReport other) {
+    wins += other.wins;
+    losses += other.losses;
+    draws += other.draws;
+    errors += other.errors;
+    decidedEarly |= other.decidedEarly;
+    timings.addAll(other.timings);
+    return this;
+  }
+
+  public int getWins() {
+    return wins;
+  }
+
+  public int getLosses() {
+    return losses;
+  }
+
+  public int getDraws() {
+    return draws;
+  }
+
+  public int getErrors() {
+    return errors;
+  }
+
+  public int getPlayed() {
+    return wins + losses + draws;
+  }
+
+  public boolean isDecidedEarly() {
+    return decidedEarly;
+  }
+
+  public List<Long> getTimings() {
+    return Collections.unmodifiableList(timings);
+  }
+
+  public String summary() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Played: ").append(getPlayed())
+        .append(", wins: ").append(wins)
+        .append(", losses: ").append(losses)
+        .append(", draws: ").append(draws)
+        .append(", errors: ").append(errors);
+    if (!timings.isEmpty()) {
+      long min = Long.MAX_VALUE;
+      long max = 0;
+      long total = 0;
+      for (long time : timings) {
+        min = Math.min(min, time);
+        max = Math.max(max, time);
+        total += time;
+      }
+      sb.append(", time min/avg/max: ")
+          .append(min / 1000000).append('/')
+          .append(total / timings.size() / 1000000).append('/')
+          .append(max / 1000000).append(" ms");
+    }
+    return sb.toString();
+  }
+}
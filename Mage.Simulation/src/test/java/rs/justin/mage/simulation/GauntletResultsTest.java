@@ -0,0 +1,39 @@
+package rs.justin.mage.simulation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GauntletResultsTest {
+
+  @Test
+  void resumeFromExistingFile(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("results.jsonl");
+
+    try (GauntletResults results = new GauntletResults(file)) {
+      results.write(new GauntletResults.Result("a.dck", "b.dck", 1, SimulationReport.Outcome.WIN, "Player 1 is the winner", 1000000));
+      results.write(new GauntletResults.Result("a.dck", "b.dck", 2, SimulationReport.Outcome.DRAW, "Game is a draw", 2000000));
+      results.write(new GauntletResults.Result("a.dck", "c.dck", 1, SimulationReport.Outcome.LOSS, "Player 2 is the winner", 3000000));
+    }
+    // crashed while writing
+    Files.write(file, "{\"deck1\":\"a.d".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+    try (GauntletResults results = new GauntletResults(file)) {
+      assertEquals(2, results.getPlayed("a.dck", "b.dck"));
+      assertEquals(1, results.getPlayed("a.dck", "c.dck"));
+      assertEquals(0, results.getPlayed("b.dck", "c.dck"));
+      results.write(new GauntletResults.Result("b.dck", "c.dck", 1, SimulationReport.Outcome.WIN, "Player 1 is the winner", 1000000));
+    }
+
+    try (GauntletResults results = new GauntletResults(file)) {
+      assertEquals(1, results.getPlayed("b.dck", "c.dck"));
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package rs.justin.mage.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationReportTest {
+
+  @Test
+  void mergeWorkerReports() {
+    SimulationReport worker1 = new SimulationReport();
+    worker1.record(SimulationReport.Outcome.WIN, 10);
+    worker1.record(SimulationReport.Outcome.DRAW, 20);
+
+    SimulationReport worker2 = new SimulationReport();
+    worker2.record(SimulationReport.Outcome.LOSS, 30);
+    worker2.recordError();
+
+    SimulationReport report = new SimulationReport().merge(worker1).merge(worker2);
+
+    assertEquals(1, report.getWins());
+    assertEquals(1, report.getLosses());
+    assertEquals(1, report.getDraws());
+    assertEquals(1, report.getErrors());
+    assertEquals(3, report.getPlayed());
+    assertEquals(3, report.getTimings().size());
+    assertFalse(report.isDecidedEarly());
+  }
+
+  @Test
+  void outcomeFromWinner() {
+    assertEquals(SimulationReport.Outcome.WIN, MatchRunner.outcome("Player 1 is the winner"));
+    assertEquals(SimulationReport.Outcome.LOSS, MatchRunner.outcome("Player 2 is the winner"));
+    assertEquals(SimulationReport.Outcome.DRAW, MatchRunner.outcome("Game is a draw"));
+  }
+}
@@ -0,0 +1,84 @@
+package org.mage.test.game;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.StaticFilters;
+import mage.game.Game;
+import mage.game.permanent.Battlefield;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Tests for permanents by controller index of the battlefield, it must follow all control changes
+ */
+public class BattlefieldControllerIndexTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SetControllerId() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerB, "Forest");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        setStrictChooseMode(true);
+        execute();
+
+        Battlefield battlefield = currentGame.getBattlefield();
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+        Assert.assertEquals(1, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), currentGame));
+        Assert.assertEquals(0, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), currentGame));
+
+        // direct change without game
+        bears.setControllerId(playerB.getId());
+        Assert.assertEquals(0, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), currentGame));
+        Assert.assertEquals(1, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), currentGame));
+        Assert.assertTrue(battlefield.getAllActivePermanents(playerB.getId()).contains(bears));
+        Assert.assertFalse(battlefield.getAllActivePermanents(playerA.getId()).contains(bears));
+    }
+
+    @Test
+    public void test_SetControllerIdInGameCopy() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        setStrictChooseMode(true);
+        execute();
+
+        Battlefield battlefield = currentGame.getBattlefield();
+        Assert.assertEquals(1, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), currentGame));
+
+        // index of the copy must follow changes of own permanents only
+        Game copy = currentGame.copy();
+        Battlefield copyBattlefield = copy.getBattlefield();
+        Assert.assertEquals(1, copyBattlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), copy));
+        Permanent copyBears = copyBattlefield.getAllActivePermanents(playerA.getId()).get(0);
+        copyBears.setControllerId(playerB.getId());
+
+        Assert.assertEquals(0, copyBattlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), copy));
+        Assert.assertEquals(1, copyBattlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), copy));
+        Assert.assertEquals(1, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), currentGame));
+        Assert.assertEquals(0, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), currentGame));
+        Assert.assertTrue(getPermanent("Grizzly Bears", playerA).isControlledBy(playerA.getId()));
+    }
+
+    @Test
+    public void test_ControlChangeEffect() {
+        // Gain control of target creature until end of turn. Untap that creature. It gains haste until end of turn.
+        addCard(Zone.HAND, playerA, "Act of Treason");
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Grizzly Bears");
+
+        setStopAt(1, PhaseStep.POSTCOMBAT_MAIN);
+        setStrictChooseMode(true);
+        execute();
+
+        Battlefield battlefield = currentGame.getBattlefield();
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+        Assert.assertEquals(1, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), currentGame));
+        Assert.assertEquals(0, battlefield.countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), currentGame));
+        Assert.assertTrue(battlefield.getAllActivePermanents(playerA.getId()).contains(bears));
+    }
+}
@@ -0,0 +1,65 @@
+package org.mage.test.game;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Tests for game state hashes used by AI caches, see {@link mage.game.GameState#getHash(Game, java.util.UUID)}
+ */
+public class GameStateHashTest extends CardTestPlayerBase {
+
+    private void prepareGame() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+        addCard(Zone.GRAVEYARD, playerB, "Shock");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        setStrictChooseMode(true);
+        execute();
+    }
+
+    @Test
+    public void test_SameStateHasSameHash() {
+        prepareGame();
+
+        Game copy = currentGame.copy();
+        Assert.assertEquals(currentGame.getState().getFullHash(currentGame), copy.getState().getFullHash(copy));
+        Assert.assertEquals(currentGame.getState().getHash(currentGame, playerA.getId()), copy.getState().getHash(copy, playerA.getId()));
+        Assert.assertEquals(currentGame.getState().getPositionHash(currentGame), copy.getState().getPositionHash(copy));
+    }
+
+    @Test
+    public void test_ChangedStateHasOtherHash() {
+        prepareGame();
+
+        long hash = currentGame.getState().getFullHash(currentGame);
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+
+        bears.tap(null, currentGame);
+        long tappedHash = currentGame.getState().getFullHash(currentGame);
+        Assert.assertNotEquals(hash, tappedHash);
+
+        bears.addCounters(CounterType.P1P1.createInstance(), playerA.getId(), null, currentGame);
+        Assert.assertNotEquals(tappedHash, currentGame.getState().getFullHash(currentGame));
+
+        bears.untap(currentGame);
+        bears.removeCounters(CounterType.P1P1.getName(), 1, null, currentGame);
+        Assert.assertEquals(hash, currentGame.getState().getFullHash(currentGame));
+    }
+
+    @Test
+    public void test_HiddenHandOfOpponent() {
+        prepareGame();
+
+        long hashA = currentGame.getState().getHash(currentGame, playerA.getId());
+        long hashB = currentGame.getState().getHash(currentGame, playerB.getId());
+        Assert.assertNotEquals("player A knows the hand cards", hashA, hashB);
+    }
+}
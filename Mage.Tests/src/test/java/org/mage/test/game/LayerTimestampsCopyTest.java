@@ -0,0 +1,88 @@
+package org.mage.test.game;
+
+import mage.abilities.effects.ContinuousEffect;
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.SubType;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Layer effects keep their timestamps in game copies (e.g. AI simulations), see ContinuousEffects.updateTimestamps
+ */
+public class LayerTimestampsCopyTest extends CardTestPlayerBase {
+
+    private static Map<UUID, Long> getOrders(Game game) {
+        return game.getState().getContinuousEffects().getLayeredEffects(game)
+                .stream()
+                .collect(Collectors.toMap(ContinuousEffect::getId, ContinuousEffect::getOrder));
+    }
+
+    private static List<UUID> getLayerOrder(Game game) {
+        return game.getState().getContinuousEffects().getLayeredEffects(game)
+                .stream()
+                .map(ContinuousEffect::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static void assertLands(Game game) {
+        Permanent urborg = game.getBattlefield().getAllPermanents().stream()
+                .filter(p -> p.getName().equals("Urborg, Tomb of Yawgmoth"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(urborg);
+        Assert.assertTrue(urborg.hasSubtype(SubType.MOUNTAIN, game));
+        Assert.assertFalse(urborg.hasSubtype(SubType.SWAMP, game));
+        Permanent plains = game.getBattlefield().getAllPermanents().stream()
+                .filter(p -> p.getName().equals("Plains"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(plains);
+        Assert.assertTrue(plains.isLand(game));
+        Assert.assertFalse(plains.hasSubtype(SubType.SWAMP, game));
+    }
+
+    @Test
+    public void test_CopyKeepsTimestamps() {
+        // Urborg, Tomb of Yawgmoth : Each land is a Swamp in addition to its other types.
+        addCard(Zone.BATTLEFIELD, playerA, "Urborg, Tomb of Yawgmoth", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+        // Blood Moon : Nonbasic lands are Mountains.
+        addCard(Zone.HAND, playerA, "Blood Moon");
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+
+        // newer effect than Urborg's
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Blood Moon");
+
+        setStopAt(1, PhaseStep.POSTCOMBAT_MAIN);
+        setStrictChooseMode(true);
+        execute();
+
+        assertPermanentCount(playerA, "Blood Moon", 1);
+        assertType("Urborg, Tomb of Yawgmoth", CardType.LAND, SubType.MOUNTAIN);
+        Map<UUID, Long> orders = getOrders(currentGame);
+        List<UUID> layerOrder = getLayerOrder(currentGame);
+        Assert.assertFalse(orders.isEmpty());
+
+        // copy must not give new timestamps to the copied effects
+        Game copy = currentGame.copy();
+        copy.applyEffects();
+        Assert.assertEquals(orders, getOrders(copy));
+        Assert.assertEquals(layerOrder, getLayerOrder(copy));
+        assertLands(copy);
+
+        // and a copy must not change the source game
+        currentGame.applyEffects();
+        Assert.assertEquals(orders, getOrders(currentGame));
+        assertLands(currentGame);
+    }
+}
@@ -0,0 +1,174 @@
+package org.mage.test.game;
+
+import mage.Mana;
+import mage.abilities.ActivatedAbility;
+import mage.abilities.mana.ActivatedManaAbilityImpl;
+import mage.cards.Card;
+import mage.cards.CardsImpl;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+
+/**
+ * Tests for playable abilities cache of the player, it must be reset by any game state change
+ */
+public class PlayableCacheTest extends CardTestPlayerBase {
+
+    private boolean isPlayable(Player player, Game game, String cardName) {
+        return player.getPlayable(game, true).stream()
+                .anyMatch(ability -> cardName.equals(game.getObject(ability.getSourceId()).getName()));
+    }
+
+    private Card getLibraryCard(Player player, Game game, String cardName) {
+        return player.getLibrary().getCards(game).stream()
+                .filter(card -> card.getName().equals(cardName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Can't find " + cardName + " in library"));
+    }
+
+    private void prepareGame() {
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        setStrictChooseMode(true);
+        execute();
+    }
+
+    @Test
+    public void test_SameStateUsesCache() {
+        addCard(Zone.HAND, playerA, "Forest");
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain");
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+        prepareGame();
+
+        List<ActivatedAbility> first = playerA.getPlayable(currentGame, true);
+        List<ActivatedAbility> second = playerA.getPlayable(currentGame, true);
+
+        // new list, but same (shared) abilities
+        Assert.assertFalse(first.isEmpty());
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            Assert.assertSame(first.get(i), second.get(i));
+        }
+        first.clear();
+        Assert.assertEquals(second.size(), playerA.getPlayable(currentGame, true).size());
+    }
+
+    @Test
+    public void test_LandPlay() {
+        addCard(Zone.HAND, playerA, "Forest");
+        addCard(Zone.HAND, playerA, "Mountain");
+        prepareGame();
+
+        Assert.assertTrue(isPlayable(playerA, currentGame, "Forest"));
+        Assert.assertTrue(isPlayable(playerA, currentGame, "Mountain"));
+
+        Card forest = playerA.getHand().getCards(currentGame).stream()
+                .filter(card -> card.getName().equals("Forest"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(forest);
+        Assert.assertTrue(playerA.playLand(forest, currentGame, false));
+
+        // one land per turn
+        Assert.assertFalse(isPlayable(playerA, currentGame, "Mountain"));
+    }
+
+    @Test
+    public void test_ManaPoolChange() {
+        // {1}{G}
+        addCard(Zone.HAND, playerA, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerA, "Forest");
+        prepareGame();
+
+        Assert.assertFalse(isPlayable(playerA, currentGame, "Grizzly Bears"));
+
+        Permanent forest = getPermanent("Forest", playerA);
+        ActivatedManaAbilityImpl manaAbility = forest.getAbilities().getActivatedManaAbilities(Zone.BATTLEFIELD).get(0);
+        playerA.getManaPool().addMana(Mana.GreenMana(1), currentGame, manaAbility);
+
+        Assert.assertTrue(isPlayable(playerA, currentGame, "Grizzly Bears"));
+    }
+
+    @Test
+    public void test_ZoneChange() {
+        addCard(Zone.LIBRARY, playerA, "Lightning Bolt");
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain");
+        skipInitShuffling();
+        prepareGame();
+
+        Assert.assertFalse(isPlayable(playerA, currentGame, "Lightning Bolt"));
+
+        playerA.moveCards(getLibraryCard(playerA, currentGame, "Lightning Bolt"), Zone.HAND, null, currentGame);
+
+        Assert.assertTrue(isPlayable(playerA, currentGame, "Lightning Bolt"));
+    }
+
+    @Test
+    public void test_Rollback() {
+        addCard(Zone.LIBRARY, playerA, "Lightning Bolt");
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain");
+        skipInitShuffling();
+        prepareGame();
+
+        int bookmark = currentGame.bookmarkState();
+        playerA.moveCards(getLibraryCard(playerA, currentGame, "Lightning Bolt"), Zone.HAND, null, currentGame);
+        Assert.assertTrue(isPlayable(playerA, currentGame, "Lightning Bolt"));
+
+        currentGame.restoreState(bookmark, "test");
+
+        Player restoredPlayer = currentGame.getPlayer(playerA.getId());
+        Assert.assertTrue(restoredPlayer.getHand().isEmpty());
+        Assert.assertFalse(isPlayable(restoredPlayer, currentGame, "Lightning Bolt"));
+    }
+
+    @Test
+    public void test_Revealed() {
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+        prepareGame();
+
+        long version = currentGame.getState().getStateVersion();
+        playerA.revealCards("test", new CardsImpl(playerA.getHand()), currentGame);
+        Assert.assertNotEquals("revealed cards must change the state", version, currentGame.getState().getStateVersion());
+
+        version = currentGame.getState().getStateVersion();
+        currentGame.getState().clearRevealed();
+        Assert.assertNotEquals("revealed cards must change the state", version, currentGame.getState().getStateVersion());
+    }
+
+    @Test
+    public void test_GameCopy() {
+        addCard(Zone.HAND, playerA, "Forest");
+        addCard(Zone.HAND, playerA, "Mountain");
+        prepareGame();
+
+        List<ActivatedAbility> playable = playerA.getPlayable(currentGame, true);
+
+        // copy must calculate own abilities, same state version of the copy is not a reason to reuse it
+        Game copy = currentGame.copy();
+        Player copyPlayer = copy.getPlayer(playerA.getId());
+        Assert.assertEquals(currentGame.getState().getStateVersion(), copy.getState().getStateVersion());
+        List<ActivatedAbility> copyPlayable = copyPlayer.getPlayable(copy, true);
+        Assert.assertEquals(playable.size(), copyPlayable.size());
+        for (ActivatedAbility ability : copyPlayable) {
+            Assert.assertFalse("copy must not reuse abilities of the source game", playable.stream().anyMatch(a -> a == ability));
+        }
+
+        // land play in copy must not change the source game
+        Card copyForest = copyPlayer.getHand().getCards(copy).stream()
+                .filter(card -> card.getName().equals("Forest"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(copyForest);
+        Assert.assertTrue(copyPlayer.playLand(copyForest, copy, false));
+        Assert.assertFalse(isPlayable(copyPlayer, copy, "Mountain"));
+        Assert.assertTrue(isPlayable(playerA, currentGame, "Mountain"));
+        Assert.assertTrue(isPlayable(playerA, currentGame, "Forest"));
+    }
+}
@@ -0,0 +1,75 @@
+package org.mage.test.serverside;
+
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Testing cards cache of the repository searches.
+ */
+public class CardRepositoryCacheTest {
+
+    @BeforeClass
+    public static void init() {
+        CardScanner.scan();
+    }
+
+    @Test
+    public void test_SameResultsAsDB() {
+        CardRepository.instance.clearCache();
+        List<CardInfo> cards = CardRepository.instance.findCards("Lightning Bolt");
+        Assert.assertFalse(cards.isEmpty());
+
+        // search by name is case insensitive like db search
+        long hits = CardRepository.instance.getCacheStats().hitCount();
+        List<CardInfo> cachedCards = CardRepository.instance.findCards("LIGHTNING bolt");
+        Assert.assertEquals(hits + 1, CardRepository.instance.getCacheStats().hitCount());
+        Assert.assertEquals(cards.size(), cachedCards.size());
+
+        // split cards search uses full name
+        CardInfo splitCard = CardRepository.instance.findCard("Fire");
+        Assert.assertNotNull(splitCard);
+        Assert.assertEquals("Fire // Ice", splitCard.getName());
+        Assert.assertEquals("Fire // Ice", CardRepository.instance.findCard("fire").getName());
+
+        // search by set and number
+        CardInfo card = cards.get(0);
+        CardInfo cardByNumber = CardRepository.instance.findCard(card.getSetCode().toLowerCase(), card.getCardNumber());
+        Assert.assertNotNull(cardByNumber);
+        Assert.assertEquals(card.getName(), cardByNumber.getName());
+
+        // not found
+        Assert.assertNull(CardRepository.instance.findCard("Unknown card name"));
+        Assert.assertNull(CardRepository.instance.findCard("Unknown card name"));
+        Assert.assertNull(CardRepository.instance.findPreferredCoreExpansionCard("Unknown card name"));
+    }
+
+    @Test
+    public void test_ResultsAreCopies() {
+        List<CardInfo> cards = CardRepository.instance.findCards("Grizzly Bears");
+        int amount = cards.size();
+        Assert.assertTrue(amount > 0);
+
+        // callers can modify search results (e.g. sort or clear)
+        cards.clear();
+        Assert.assertEquals(amount, CardRepository.instance.findCards("Grizzly Bears").size());
+    }
+
+    @Test
+    public void test_ClearOnSave() {
+        CardRepository.instance.findCards("Grizzly Bears");
+        CardRepository.instance.findCards("Grizzly Bears");
+        Assert.assertTrue(CardRepository.instance.getCacheStats().hitCount() > 0);
+
+        CardRepository.instance.saveCards(Collections.emptyList(), CardRepository.instance.getContentVersionConstant());
+        long misses = CardRepository.instance.getCacheStats().missCount();
+        CardRepository.instance.findCards("Grizzly Bears");
+        Assert.assertEquals(misses + 1, CardRepository.instance.getCacheStats().missCount());
+    }
+}
@@ -25,8 +25,24 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
 
     private static final Logger logger = Logger.getLogger(TriggeredAbilities.class);
 
+    // abilities with declared event types, see TriggeredAbility.getTriggerEventTypes
+    private static final ClassValue<Boolean> eventTypesDeclared = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("checkEventType", GameEvent.class, Game.class).getDeclaringClass()
+                        == type.getMethod("getTriggerEventTypes").getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private final Map<String, List<UUID>> sources = new HashMap<>();
 
+    // abilities to check by event type (in map order), rebuilt on demand after changes
+    private transient Map<GameEvent.EventType, List<TriggeredAbility>> eventTypeIndex;
+
     public TriggeredAbilities() {
     }
 
@@ -49,14 +65,35 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext(); ) {
-            TriggeredAbility ability = it.next();
+        for (TriggeredAbility ability : getAbilities(event.getType())) {
             if (ability.checkEventType(event, game)) {
                 checkTrigger(ability, event, game);
             }
         }
     }
 
+    private List<TriggeredAbility> getAbilities(GameEvent.EventType eventType) {
+        if (eventTypeIndex == null) {
+            eventTypeIndex = new EnumMap<>(GameEvent.EventType.class);
+        }
+        List<TriggeredAbility> abilities = eventTypeIndex.get(eventType);
+        if (abilities == null) {
+            abilities = new ArrayList<>();
+            for (TriggeredAbility ability : values()) {
+                Set<GameEvent.EventType> eventTypes = eventTypesDeclared.get(ability.getClass()) ? ability.getTriggerEventTypes() : null;
+                if (eventTypes == null || eventTypes.contains(eventType)) {
+                    abilities.add(ability);
+                }
+            }
+            eventTypeIndex.put(eventType, abilities);
+        }
+        return abilities;
+    }
+
+    private void invalidateEventTypeIndex() {
+        eventTypeIndex = null;
+    }
+
     private void checkTrigger(TriggeredAbility ability, GameEvent event, Game game) {
         // for effects like when leaves battlefield or destroyed use ShortLKI to check if permanent was in the correct zone before (e.g. Oblivion Ring or Karmic Justice)
         MageObject object = game.getObject(ability.getSourceId());
@@ -140,12 +177,49 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
         return key;
     }
 
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility ability) {
+        TriggeredAbility old = super.put(key, ability);
+        if (old != ability) {
+            invalidateEventTypeIndex();
+        }
+        return old;
+    }
+
+    @Override
+    public TriggeredAbility putIfAbsent(String key, TriggeredAbility ability) {
+        TriggeredAbility old = super.putIfAbsent(key, ability);
+        if (old == null) {
+            invalidateEventTypeIndex();
+        }
+        return old;
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility old = super.remove(key);
+        if (old != null) {
+            invalidateEventTypeIndex();
+        }
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        invalidateEventTypeIndex();
+    }
+
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        if (keySet().removeIf(key -> key.endsWith(sourceId.toString()))) {
+            invalidateEventTypeIndex();
+        }
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        if (this.keySet().removeAll(sources.keySet())) {
+            invalidateEventTypeIndex();
+        }
         sources.clear();
     }
 
@@ -156,8 +230,10 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
 
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+        if (entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
+                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())))) {
+            invalidateEventTypeIndex();
+        }
 
     }
 
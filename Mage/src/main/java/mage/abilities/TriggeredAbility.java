@@ -4,6 +4,7 @@ package mage.abilities;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +25,18 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Event types that can pass {@link #checkEventType(GameEvent, Game)}, used
+     * to dispatch events only to the abilities that can react to them. Must be
+     * overridden together with checkEventType, a subclass that only overrides
+     * checkEventType is checked for every event.
+     *
+     * @return event types or null if unknown (ability gets all events)
+     */
+    default Set<GameEvent.EventType> getTriggerEventTypes() {
+        return null;
+    }
+
     /**
      * This method checks if the event has to trigger the ability. It's
      * important to do nothing unique within this method, that can't be done
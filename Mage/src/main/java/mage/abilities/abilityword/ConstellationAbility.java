@@ -10,6 +10,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Constellation
  *
@@ -51,6 +54,11 @@ public class ConstellationAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getPlayerId().equals(this.getControllerId())) {
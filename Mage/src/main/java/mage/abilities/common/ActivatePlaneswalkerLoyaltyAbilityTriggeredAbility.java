@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.game.stack.StackAbility;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class ActivatePlaneswalkerLoyaltyAbilityTriggeredAbility extends TriggeredAbilityImpl {
 
     private final SubType planeswalkerSubType;
@@ -35,6 +38,11 @@ public class ActivatePlaneswalkerLoyaltyAbilityTriggeredAbility extends Triggere
         return event.getType() == GameEvent.EventType.ACTIVATED_ABILITY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATED_ABILITY);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getPlayerId().equals(getControllerId())) {
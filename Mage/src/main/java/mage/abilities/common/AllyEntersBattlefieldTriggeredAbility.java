@@ -10,6 +10,9 @@ import mage.game.Game;
 import mage.game.events.EntersTheBattlefieldEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author North
  */
@@ -30,6 +33,11 @@ public class AllyEntersBattlefieldTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         EntersTheBattlefieldEvent ebe = (EntersTheBattlefieldEvent) event;
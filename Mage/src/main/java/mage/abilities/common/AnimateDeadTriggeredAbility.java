@@ -22,6 +22,7 @@ import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -226,6 +227,11 @@ class AnimateDeadDelayedTriggeredAbility extends DelayedTriggeredAbility {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return getSourceId().equals(event.getTargetId()) && ((ZoneChangeEvent) event).getFromZone() == Zone.BATTLEFIELD;
@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author htrajan
  */
@@ -26,6 +29,11 @@ public class AttachedToCreatureSourceTriggeredAbility extends TriggeredAbilityIm
         return event.getType() == GameEvent.EventType.ATTACHED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACHED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getSourceId().equals(this.getSourceId())) {
@@ -1,6 +1,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -56,6 +58,11 @@ public class AttackedByCreatureTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         UUID defendingPlayer = game.getCombat().getDefendingPlayerId(event.getSourceId(), game);
@@ -12,6 +12,8 @@ import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -59,6 +61,11 @@ public class AttacksAllTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent permanent = game.getPermanent(event.getSourceId());
@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LoneFox
@@ -32,6 +35,11 @@ public class AttacksAloneSourceTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!getSourceId().equals(event.getSourceId()) || !game.getCombat().attacksAlone()) {
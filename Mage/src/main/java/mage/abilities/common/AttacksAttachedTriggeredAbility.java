@@ -10,6 +10,8 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -57,6 +59,11 @@ public class AttacksAttachedTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent attachment = getSourcePermanentOrLKI(game);
@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.watchers.common.AttackedThisTurnWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author TheElk801
@@ -31,6 +34,11 @@ public class AttacksFirstTimeTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getSourceId().equals(this.getSourceId())) {
@@ -11,8 +11,10 @@ import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTargets;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -70,6 +72,11 @@ public class AttacksWithCreaturesTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DECLARED_ATTACKERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DECLARED_ATTACKERS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!isControlledBy(game.getCombat().getAttackingPlayerId())) {
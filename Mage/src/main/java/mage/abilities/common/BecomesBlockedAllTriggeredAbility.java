@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -40,6 +43,11 @@ public class BecomesBlockedAllTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.CREATURE_BLOCKED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CREATURE_BLOCKED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent permanent = game.getPermanent(event.getTargetId());
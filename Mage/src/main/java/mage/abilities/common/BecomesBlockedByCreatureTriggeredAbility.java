@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author North
  */
@@ -37,6 +40,11 @@ public class BecomesBlockedByCreatureTriggeredAbility extends TriggeredAbilityIm
         return event.getType() == GameEvent.EventType.BLOCKER_DECLARED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getTargetId().equals(this.getSourceId())) {
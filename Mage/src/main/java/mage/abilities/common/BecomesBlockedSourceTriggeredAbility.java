@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author North
@@ -35,6 +38,11 @@ public class BecomesBlockedSourceTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.CREATURE_BLOCKED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CREATURE_BLOCKED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // set the defending player via targetPointer
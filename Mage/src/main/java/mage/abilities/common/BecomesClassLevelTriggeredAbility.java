@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -29,6 +32,11 @@ public class BecomesClassLevelTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.GAINS_CLASS_LEVEL;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.GAINS_CLASS_LEVEL);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getAmount() == level && event.getSourceId().equals(getSourceId());
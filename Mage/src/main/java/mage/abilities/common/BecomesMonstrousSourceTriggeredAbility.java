@@ -7,6 +7,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -39,6 +42,11 @@ public class BecomesMonstrousSourceTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.BECOMES_MONSTROUS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BECOMES_MONSTROUS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getSourceId().equals(this.getSourceId())) {
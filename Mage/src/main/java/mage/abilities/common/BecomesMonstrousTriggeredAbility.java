@@ -8,6 +8,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author Styxo
@@ -33,6 +36,11 @@ public class BecomesMonstrousTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.BECOMES_MONSTROUS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BECOMES_MONSTROUS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent permanent = game.getPermanent(event.getTargetId());
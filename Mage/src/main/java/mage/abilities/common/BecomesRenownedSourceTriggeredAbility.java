@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -34,6 +37,11 @@ public class BecomesRenownedSourceTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.BECOMES_RENOWNED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BECOMES_RENOWNED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getSourceId().equals(this.getSourceId())) {
@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.StackObject;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LoneFox
@@ -47,6 +50,11 @@ public class BecomesTargetAttachedTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.TARGETED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent enchantment = game.getPermanent(sourceId);
@@ -9,6 +9,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.stack.Spell;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author jeffwadsworth
  */
@@ -33,6 +36,11 @@ public class BecomesTargetControllerSpellTriggeredAbility extends TriggeredAbili
         return event.getType() == GameEvent.EventType.TARGETED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getTargetId().equals(controllerId)) {
@@ -45,6 +45,11 @@ public class BecomesTargetOpponentAllTriggeredAbility extends TriggeredAbilityIm
         return event.getType() == GameEvent.EventType.TARGETED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         StackObject sourceObject = game.getStack().getStackObject(event.getSourceId());
@@ -11,6 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.StackObject;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author North
  */
@@ -54,6 +57,11 @@ public class BecomesTargetTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.TARGETED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         StackObject sourceObject = game.getStack().getStackObject(event.getSourceId());
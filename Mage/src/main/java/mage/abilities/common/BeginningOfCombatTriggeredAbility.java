@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfCombatTriggeredAbility extends TriggeredAbilityImpl {
 
     private final TargetController targetController;
@@ -40,6 +43,11 @@ public class BeginningOfCombatTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.BEGIN_COMBAT_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGIN_COMBAT_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
 
     private final TargetController targetController;
@@ -46,6 +49,11 @@ public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.END_TURN_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
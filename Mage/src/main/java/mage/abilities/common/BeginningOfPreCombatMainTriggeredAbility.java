@@ -12,6 +12,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -48,6 +51,11 @@ public class BeginningOfPreCombatMainTriggeredAbility extends TriggeredAbilityIm
         return event.getType() == GameEvent.EventType.PRECOMBAT_MAIN_PHASE_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PRECOMBAT_MAIN_PHASE_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
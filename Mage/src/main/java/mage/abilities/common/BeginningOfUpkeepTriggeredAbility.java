@@ -9,6 +9,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Loki
  */
@@ -55,6 +58,11 @@ public class BeginningOfUpkeepTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.UPKEEP_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -9,6 +9,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author garnold
@@ -49,6 +52,11 @@ public class BlocksAttachedTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.BLOCKER_DECLARED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent p = game.getPermanent(event.getSourceId());
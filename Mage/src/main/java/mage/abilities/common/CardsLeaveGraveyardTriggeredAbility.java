@@ -10,7 +10,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeGroupEvent;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author TheElk801
@@ -39,6 +41,11 @@ public class CardsLeaveGraveyardTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE_GROUP;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE_GROUP);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ZoneChangeGroupEvent zEvent = (ZoneChangeGroupEvent) event;
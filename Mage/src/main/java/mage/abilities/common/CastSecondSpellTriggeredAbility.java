@@ -14,6 +14,9 @@ import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 import mage.watchers.common.CastSpellLastTurnWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -66,6 +69,11 @@ public class CastSecondSpellTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -10,6 +10,9 @@ import mage.game.events.DamagedPlayerEvent;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * A triggered ability for whenever one or more creatures deal combat damage to
  * you. Has an optional component for setting the target pointer to the opponent
@@ -68,6 +71,11 @@ public class CombatDamageDealtToYouTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.DAMAGED_PLAYER_BATCH;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER_BATCH);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         DamagedPlayerBatchEvent damageEvent = (DamagedPlayerBatchEvent) event;
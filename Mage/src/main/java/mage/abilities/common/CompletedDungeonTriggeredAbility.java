@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -33,6 +36,11 @@ public class CompletedDungeonTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DUNGEON_COMPLETED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DUNGEON_COMPLETED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return isControlledBy(event.getPlayerId());
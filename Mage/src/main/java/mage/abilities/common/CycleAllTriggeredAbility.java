@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.StackAbility;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -30,6 +33,11 @@ public class CycleAllTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ACTIVATED_ABILITY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATED_ABILITY);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (game.getState().getStack().isEmpty()) {
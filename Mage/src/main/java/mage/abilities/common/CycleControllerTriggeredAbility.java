@@ -9,6 +9,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.StackAbility;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -40,6 +43,11 @@ public class CycleControllerTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ACTIVATED_ABILITY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATED_ABILITY);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (game.getState().getStack().isEmpty()
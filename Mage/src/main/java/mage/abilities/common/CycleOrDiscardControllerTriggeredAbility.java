@@ -7,6 +7,9 @@ import mage.abilities.effects.Effect;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author fireshoes
@@ -31,6 +34,11 @@ public class CycleOrDiscardControllerTriggeredAbility extends TriggeredAbilityIm
         return event.getType() == GameEvent.EventType.DISCARDED_CARD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DISCARDED_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getPlayerId().equals(controllerId);
@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Plopman
  */
@@ -29,6 +32,11 @@ public class CycleTriggeredAbility extends ZoneChangeTriggeredAbility {
         return event.getType() == GameEvent.EventType.ACTIVATED_ABILITY;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATED_ABILITY);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getSourceId().equals(this.getSourceId())) {
@@ -11,6 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -61,6 +64,11 @@ public class DealsDamageToACreatureAllTriggeredAbility extends TriggeredAbilityI
         return event.getType() == GameEvent.EventType.DAMAGED_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PERMANENT);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent permanent = game.getPermanent(event.getTargetId());
@@ -12,6 +12,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class DealtDamageAndDiedTriggeredAbility extends TriggeredAbilityImpl {
 
     private final FilterCreaturePermanent filter;
@@ -52,6 +55,11 @@ public class DealtDamageAndDiedTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (((ZoneChangeEvent) event).isDiesEvent()) {
@@ -1,6 +1,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -45,6 +47,11 @@ public class DealtDamageAttachedTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DAMAGED_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PERMANENT);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent enchantment = game.getPermanent(sourceId);
@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class DestroyPlaneswalkerWhenDamagedTriggeredAbility extends TriggeredAbilityImpl {
 
     private final FilterPermanent filter;
@@ -38,6 +41,11 @@ public class DestroyPlaneswalkerWhenDamagedTriggeredAbility extends TriggeredAbi
         return event.getType() == GameEvent.EventType.DAMAGED_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PERMANENT);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent permanent = getSourcePermanentIfItStillExists(game);
@@ -12,6 +12,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author North
  */
@@ -67,6 +70,11 @@ public class DiesCreatureTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ZoneChangeEvent zEvent = (ZoneChangeEvent) event;
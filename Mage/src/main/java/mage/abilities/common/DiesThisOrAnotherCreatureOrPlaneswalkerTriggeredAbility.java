@@ -10,6 +10,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author noxx
  */
@@ -41,6 +44,11 @@ public class DiesThisOrAnotherCreatureOrPlaneswalkerTriggeredAbility extends Tri
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
+
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
     
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
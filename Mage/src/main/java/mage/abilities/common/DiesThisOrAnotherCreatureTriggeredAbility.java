@@ -10,6 +10,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author noxx
  */
@@ -49,6 +52,11 @@ public class DiesThisOrAnotherCreatureTriggeredAbility extends TriggeredAbilityI
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ZoneChangeEvent zEvent = (ZoneChangeEvent) event;
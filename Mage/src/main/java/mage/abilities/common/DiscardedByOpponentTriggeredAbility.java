@@ -8,6 +8,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author Styxo
@@ -37,6 +40,11 @@ public class DiscardedByOpponentTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DISCARDED_CARD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DISCARDED_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (getSourceId().equals(event.getTargetId())) {
@@ -12,6 +12,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author jeffwadsworth
@@ -45,6 +48,11 @@ public class DiscardsACardOpponentTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.DISCARDED_CARD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DISCARDED_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (game.getOpponents(controllerId).contains(event.getPlayerId())) {
@@ -55,6 +55,11 @@ public class DrawNthCardTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DREW_CARD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -118,6 +123,11 @@ class DrawCardWatcher extends Watcher {
         drawMap.get(event.getPlayerId()).add(event.getId());
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     @Override
     public void reset() {
         super.reset();
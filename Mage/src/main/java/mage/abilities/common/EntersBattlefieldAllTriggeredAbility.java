@@ -10,6 +10,8 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -81,6 +83,11 @@ public class EntersBattlefieldAllTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         UUID targetId = event.getTargetId();
@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.EntersTheBattlefieldEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -35,6 +38,11 @@ public class EntersBattlefieldFromGraveyardTriggeredAbility extends TriggeredAbi
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getTargetId().equals(getSourceId())
@@ -12,7 +12,9 @@ import mage.game.events.ZoneChangeGroupEvent;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -43,6 +45,11 @@ public class EntersBattlefieldOneOrMoreTriggeredAbility extends TriggeredAbility
         return event.getType() == GameEvent.EventType.ZONE_CHANGE_GROUP;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE_GROUP);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ZoneChangeGroupEvent zEvent = (ZoneChangeGroupEvent) event;
@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author stravant
  */
@@ -26,6 +29,11 @@ public class ExertCreatureControllerTriggeredAbility extends TriggeredAbilityImp
         return event.getType() == GameEvent.EventType.BECOMES_EXERTED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BECOMES_EXERTED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         boolean weAreExerting = isControlledBy(event.getPlayerId());
@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -48,6 +51,11 @@ public class ExploitCreatureTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.EXPLOITED_CREATURE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.EXPLOITED_CREATURE);
+    }
+
     @Override
     public boolean isInUseableZone(Game game, MageObject source, GameEvent event) {
         Permanent sourcePermanent = null;
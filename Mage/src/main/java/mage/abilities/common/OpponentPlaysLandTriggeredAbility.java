@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author jeffwadsworth
  */
@@ -26,6 +29,11 @@ public class OpponentPlaysLandTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.LAND_PLAYED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LAND_PLAYED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent land = game.getPermanent(event.getTargetId());
@@ -10,6 +10,9 @@ import mage.game.permanent.Permanent;
 import mage.game.permanent.PermanentToken;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class OpponentSacrificesNonTokenPermanentTriggeredAbility extends TriggeredAbilityImpl {
 
     public OpponentSacrificesNonTokenPermanentTriggeredAbility(Effect effect) {
@@ -26,6 +29,11 @@ public class OpponentSacrificesNonTokenPermanentTriggeredAbility extends Trigger
         return event.getType() == GameEvent.EventType.SACRIFICED_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SACRIFICED_PERMANENT);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (game.getPlayer(getControllerId()).hasOpponent(event.getPlayerId(), game)) {
@@ -10,6 +10,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class OpponentSacrificesPermanentTriggeredAbility extends TriggeredAbilityImpl {
 
     public OpponentSacrificesPermanentTriggeredAbility(Effect effect) {
@@ -26,6 +29,11 @@ public class OpponentSacrificesPermanentTriggeredAbility extends TriggeredAbilit
         return event.getType() == GameEvent.EventType.SACRIFICED_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SACRIFICED_PERMANENT);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
     if (game.getPlayer(this.getControllerId()).hasOpponent(event.getPlayerId(), game)) {
@@ -8,6 +8,9 @@ import mage.game.events.DamagedPlayerEvent;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * A triggered ability for whenever a player attacks. Has an optional component
  * for setting the target pointer on effects to that attacking player.
@@ -63,6 +66,11 @@ public class PlayerAttacksTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DECLARED_ATTACKERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DECLARED_ATTACKERS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!game.getCombat().getAttackers().isEmpty()) {
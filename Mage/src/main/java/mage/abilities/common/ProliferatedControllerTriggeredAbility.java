@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -33,6 +36,11 @@ public class ProliferatedControllerTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.PROLIFERATED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PROLIFERATED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return isControlledBy(event.getPlayerId());
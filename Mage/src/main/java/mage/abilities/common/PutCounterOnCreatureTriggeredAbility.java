@@ -11,6 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * "Whenever you put one or more counters on a creature " triggered ability
  *
@@ -68,6 +71,11 @@ public class PutCounterOnCreatureTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.COUNTERS_ADDED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTERS_ADDED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!isControlledBy(event.getPlayerId())) {
@@ -12,6 +12,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author Lonefox
@@ -36,6 +39,11 @@ public class SacrificeIfCastAtInstantTimeTriggeredAbility extends TriggeredAbili
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // TODO: The sacrifice should occur only if you cast it using its own ability. If you cast it using some
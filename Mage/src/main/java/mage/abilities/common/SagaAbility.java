@@ -21,6 +21,8 @@ import mage.target.Target;
 import mage.util.CardUtil;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -223,6 +225,11 @@ class ChapterTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.COUNTERS_ADDED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTERS_ADDED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getTargetId().equals(getSourceId())
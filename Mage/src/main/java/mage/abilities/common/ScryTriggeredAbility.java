@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -38,6 +41,11 @@ public class ScryTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SCRIED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SCRIED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (isControlledBy(event.getPlayerId())) {
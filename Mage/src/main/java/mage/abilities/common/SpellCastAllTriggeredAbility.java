@@ -12,6 +12,9 @@ import mage.game.stack.Spell;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -57,6 +60,11 @@ public class SpellCastAllTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Spell spell = game.getStack().getSpell(event.getTargetId());
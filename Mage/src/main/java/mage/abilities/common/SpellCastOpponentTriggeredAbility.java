@@ -11,6 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
@@ -79,6 +82,11 @@ public class SpellCastOpponentTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!game.getPlayer(this.getControllerId()).hasOpponent(event.getPlayerId(), game)) {
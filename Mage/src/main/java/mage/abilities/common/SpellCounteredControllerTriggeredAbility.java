@@ -9,6 +9,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.stack.Spell;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author fireshoes
@@ -38,6 +41,11 @@ public class SpellCounteredControllerTriggeredAbility extends TriggeredAbilityIm
         return event.getType() == GameEvent.EventType.COUNTERED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTERED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         StackObject stackObjectThatCountered = game.getStack().getStackObject(event.getSourceId());
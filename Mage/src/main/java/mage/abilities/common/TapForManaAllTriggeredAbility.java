@@ -12,6 +12,9 @@ import mage.game.events.TappedForManaEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Non mana triggered ability (use case: you must apply non mana effects on mana taps like gain life)
  *
@@ -41,6 +44,11 @@ public class TapForManaAllTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.TAPPED_FOR_MANA;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TAPPED_FOR_MANA);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // it's non mana triggered ability, so ignore it on checking, see TAPPED_FOR_MANA
@@ -7,6 +7,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -32,6 +35,11 @@ public class TappedNotAttackingTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.TAPPED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TAPPED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getFlag()) {
@@ -9,6 +9,9 @@ import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * "Whenever you or a permanent you control becomes the target of a spell or ability an opponent controls,"
  *  AND
@@ -44,6 +47,11 @@ public class TargetOfOpponentsSpellOrAbilityTriggeredAbility extends TriggeredAb
         return event.getType() == GameEvent.EventType.TARGETED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Player controller = game.getPlayer(this.getControllerId());
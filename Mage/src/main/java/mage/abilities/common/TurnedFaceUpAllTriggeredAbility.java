@@ -11,6 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
@@ -53,6 +56,11 @@ public class TurnedFaceUpAllTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.TURNEDFACEUP;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TURNEDFACEUP);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getTargetId().equals(getSourceId())) {
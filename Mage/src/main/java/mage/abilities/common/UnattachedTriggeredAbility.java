@@ -9,6 +9,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author nantuko
@@ -29,6 +32,11 @@ public class UnattachedTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.UNATTACHED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNATTACHED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getSourceId().equals(this.getSourceId()) ) {
@@ -7,6 +7,9 @@ import mage.constants.Duration;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -35,6 +38,11 @@ public class AtTheBeginOfNextUpkeepDelayedTriggeredAbility extends DelayedTrigge
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.UPKEEP_STEP_PRE;
     }
+
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE);
+    }
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return true;
@@ -10,6 +10,9 @@ import mage.constants.Duration;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author jeffwadsworth
@@ -38,6 +41,11 @@ public class AtTheBeginOfYourNextDrawStepDelayedTriggeredAbility extends Delayed
         return event.getType() == GameEvent.EventType.DRAW_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DRAW_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getPlayerId().equals(this.controllerId);
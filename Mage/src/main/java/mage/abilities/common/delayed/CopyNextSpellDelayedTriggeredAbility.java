@@ -11,6 +11,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -49,6 +52,11 @@ public class CopyNextSpellDelayedTriggeredAbility extends DelayedTriggeredAbilit
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!isControlledBy(event.getPlayerId())) {
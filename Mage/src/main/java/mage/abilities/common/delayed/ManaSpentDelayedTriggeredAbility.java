@@ -12,6 +12,8 @@ import mage.game.stack.Spell;
 import mage.players.ManaPoolItem;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -42,6 +44,11 @@ public class ManaSpentDelayedTriggeredAbility extends DelayedTriggeredAbility {
         return event.getType() == GameEvent.EventType.MANA_PAID;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MANA_PAID);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!getSourceId().equals(event.getSourceId())) {
@@ -9,6 +9,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author nantuko
  */
@@ -33,6 +36,11 @@ public class PactDelayedTriggeredAbility extends DelayedTriggeredAbility {
         return event.getType() == GameEvent.EventType.UPKEEP_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return game.isActivePlayer(this.getControllerId());
@@ -7,7 +7,9 @@ import mage.constants.Duration;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 
 /**
  * @author TheElk801
@@ -42,6 +44,11 @@ public class ReflexiveTriggeredAbility extends DelayedTriggeredAbility {
         return event.getType() == GameEvent.EventType.OPTION_USED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.OPTION_USED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return this.isControlledBy(event.getPlayerId())
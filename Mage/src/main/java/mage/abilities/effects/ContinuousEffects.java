@@ -57,7 +57,7 @@ public class ContinuousEffects implements Serializable {
     private final ApplyCountersEffect applyCounters;
     private final AuraReplacementEffect auraReplacementEffect;
 
-    private final Map<String, ContinuousEffectsList<ContinuousEffect>> lastEffectsListOnLayer = new HashMap<>(); // helps to find out new effect timestamps on layers
+    private final Map<String, Set<UUID>> lastEffectsListOnLayer = new HashMap<>(); // effect ids, helps to find out new effect timestamps on layers
 
     public ContinuousEffects() {
         applyCounters = new ApplyCountersEffect();
@@ -81,8 +81,8 @@ public class ContinuousEffects implements Serializable {
 
         costModificationEffects = effect.costModificationEffects.copy();
         spliceCardEffects = effect.spliceCardEffects.copy();
-        for (Map.Entry<String, ContinuousEffectsList<ContinuousEffect>> entry : effect.lastEffectsListOnLayer.entrySet()) {
-            lastEffectsListOnLayer.put(entry.getKey(), entry.getValue().copy());
+        for (Map.Entry<String, Set<UUID>> entry : effect.lastEffectsListOnLayer.entrySet()) {
+            lastEffectsListOnLayer.put(entry.getKey(), new HashSet<>(entry.getValue()));
         }
         collectAllEffects();
         order = effect.order;
@@ -218,22 +218,25 @@ public class ContinuousEffects implements Serializable {
      * It must be called with different timestamp group name (otherwise sort
      * order will be changed for add/remove effects, see Urborg and Bloodmoon
      * test)
+     * <p>
+     * Only effect ids are kept from the previous call: the check runs on every
+     * layers recalculation (several times per apply), so it must not depend on
+     * the size of the previous list
      *
      * @param layerEffects
      */
     private synchronized void updateTimestamps(String timestampGroupName, List<ContinuousEffect> layerEffects) {
-        if (!lastEffectsListOnLayer.containsKey(timestampGroupName)) {
-            lastEffectsListOnLayer.put(timestampGroupName, new ContinuousEffectsList<>());
-        }
-        ContinuousEffectsList<ContinuousEffect> prevs = lastEffectsListOnLayer.get(timestampGroupName);
+        Set<UUID> prevs = lastEffectsListOnLayer.computeIfAbsent(timestampGroupName, k -> new HashSet<>());
         for (ContinuousEffect continuousEffect : layerEffects) {
             // check if it's new, then set order
-            if (!prevs.contains(continuousEffect)) {
+            if (!prevs.contains(continuousEffect.getId())) {
                 setOrder(continuousEffect);
             }
         }
         prevs.clear();
-        prevs.addAll(layerEffects);
+        for (ContinuousEffect continuousEffect : layerEffects) {
+            prevs.add(continuousEffect.getId());
+        }
     }
 
     public void setOrder(ContinuousEffect effect) {
@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class CrewsVehicleSourceTriggeredAbility extends TriggeredAbilityImpl {
 
     public CrewsVehicleSourceTriggeredAbility(Effect effect) {
@@ -30,6 +33,11 @@ public class CrewsVehicleSourceTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.CREWED_VEHICLE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CREWED_VEHICLE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getTargetId().equals(getSourceId())) {
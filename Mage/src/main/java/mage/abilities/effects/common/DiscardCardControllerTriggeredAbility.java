@@ -8,6 +8,9 @@ import mage.filter.StaticFilters;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author TheElk801
  */
@@ -40,6 +43,11 @@ public class DiscardCardControllerTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.DISCARDED_CARD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DISCARDED_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (isControlledBy(event.getPlayerId())
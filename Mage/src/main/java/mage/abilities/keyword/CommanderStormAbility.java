@@ -15,6 +15,9 @@ import mage.game.stack.StackObject;
 import mage.players.Player;
 import mage.watchers.common.CommanderPlaysCountWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Plopman
  */
@@ -39,6 +42,11 @@ public class CommanderStormAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getSourceId().equals(getSourceId())) {
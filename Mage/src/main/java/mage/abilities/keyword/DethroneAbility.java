@@ -1,6 +1,8 @@
 
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.common.counter.AddCountersSourceEffect;
@@ -44,6 +46,11 @@ public class DethroneAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DECLARED_ATTACKERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DECLARED_ATTACKERS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         UUID defenderId = game.getCombat().getDefenderId(getSourceId());
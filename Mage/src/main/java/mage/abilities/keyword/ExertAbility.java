@@ -1,6 +1,7 @@
 
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import mage.MageObjectReference;
@@ -155,6 +156,11 @@ class ExertedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BECOMES_EXERTED);
+    }
+
     public Set<MageObjectReference> getExertedThisTurnCreatures() {
         return this.exertedThisTurnCreatures;
     }
@@ -1,7 +1,9 @@
 
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.StaticAbility;
 import mage.abilities.TriggeredAbilityImpl;
@@ -62,6 +64,11 @@ public class GraftAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent sourcePermanent = game.getPermanent(this.getSourceId());
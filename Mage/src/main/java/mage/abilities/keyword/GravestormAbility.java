@@ -13,6 +13,9 @@ import mage.game.stack.Spell;
 import mage.game.stack.StackObject;
 import mage.watchers.common.GravestormWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author emerald000
  */
@@ -37,6 +40,11 @@ public class GravestormAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getSourceId().equals(this.getSourceId())) {
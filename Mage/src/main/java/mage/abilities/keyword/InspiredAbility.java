@@ -7,6 +7,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Inspired ability word
  *
@@ -44,6 +47,11 @@ public class InspiredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.UNTAPPED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAPPED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getTargetId().equals(this.getSourceId());
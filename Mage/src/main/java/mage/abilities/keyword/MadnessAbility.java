@@ -21,6 +21,8 @@ import mage.game.events.ZoneChangeEvent;
 import mage.game.stack.Spell;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -190,6 +192,11 @@ class MadnessTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.MADNESS_CARD_EXILED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MADNESS_CARD_EXILED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // Check that the event was from the connected replacement effect
@@ -16,6 +16,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 702.58a Recover is a triggered ability that functions only while the card
  * with recover is in a player's graveyard. “Recover [cost]” means “When a
@@ -45,6 +48,11 @@ public class RecoverAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ZoneChangeEvent zEvent = (ZoneChangeEvent) event;
@@ -22,6 +22,9 @@ import mage.game.events.GameEvent;
 import mage.players.Player;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author Styxo, Merlingilb
@@ -105,6 +108,11 @@ class RepairCastFromGraveyardTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.COUNTER_REMOVED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTER_REMOVED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getTargetId().equals(getSourceId())) {
@@ -25,7 +25,9 @@ import mage.players.Player;
 import mage.target.targetpointer.FixedTarget;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -295,6 +297,11 @@ class SuspendPlayCardAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.COUNTER_REMOVED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTER_REMOVED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getTargetId().equals(this.getSourceId())) {
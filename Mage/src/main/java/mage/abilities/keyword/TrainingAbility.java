@@ -12,7 +12,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author TheElk801
@@ -37,6 +39,11 @@ public class TrainingAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DECLARED_ATTACKERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DECLARED_ATTACKERS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!game.getCombat().getAttackers().contains(this.getSourceId())) {
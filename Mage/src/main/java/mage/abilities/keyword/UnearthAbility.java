@@ -17,6 +17,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.events.ZoneChangeEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  * <p>
@@ -78,6 +81,11 @@ class UnearthDelayedTriggeredAbility extends DelayedTriggeredAbility {
         return event.getType() == GameEvent.EventType.END_TURN_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getPlayerId().equals(this.controllerId);
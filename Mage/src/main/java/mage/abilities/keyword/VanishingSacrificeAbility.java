@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class VanishingSacrificeAbility extends TriggeredAbilityImpl {
     public VanishingSacrificeAbility() {
         super(Zone.BATTLEFIELD, new SacrificeSourceEffect());
@@ -23,6 +26,11 @@ public class VanishingSacrificeAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.COUNTER_REMOVED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTER_REMOVED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getData().equals(CounterType.TIME.getName()) && event.getTargetId().equals(this.getSourceId())) {
@@ -9,6 +9,7 @@ import mage.game.events.GameEvent;
 import mage.game.events.ManaEvent;
 import mage.game.events.TappedForManaEvent;
 import mage.players.Player;
+import mage.util.CardUtil;
 import mage.util.TreeNode;
 import org.apache.log4j.Logger;
 
@@ -32,6 +33,21 @@ public class ManaOptions extends LinkedHashSet<Mana> {
 
     private static final Logger logger = Logger.getLogger(ManaOptions.class);
 
+    // packed option values for removeFullyIncludedVariations
+    private static final int PACKED_WHITE = 0;
+    private static final int PACKED_BLUE = 1;
+    private static final int PACKED_BLACK = 2;
+    private static final int PACKED_RED = 3;
+    private static final int PACKED_GREEN = 4;
+    private static final int PACKED_COLORLESS = 5;
+    private static final int PACKED_GENERIC = 6;
+    private static final int PACKED_ANY = 7;
+    private static final int PACKED_FLAG = 8;
+    private static final int PACKED_COLORED = 9;
+    private static final int PACKED_COUNT = 10;
+    private static final int PACKED_PLAIN = 11; // 1 for Mana class, conditional mana must use Mana.getMoreValuableMana
+    private static final int PACKED_SIZE = 12;
+
     public ManaOptions() {
     }
 
@@ -518,34 +534,40 @@ public class ManaOptions extends LinkedHashSet<Mana> {
     /**
      * Remove fully included variations.
      * E.g. If both {R} and {R}{W} are in this, then {R} will be removed.
+     * <p>
+     * Each option is compared with all others, so with big mana bases (hundreds of options) it's
+     * the slowest part of the available mana calculation. The values of not conditional options
+     * are packed into an int array to compare them without method calls and repeated counting,
+     * see {@link #getMoreValuablePacked(int[], int, int)}.
      */
     public void removeFullyIncludedVariations() {
         List<Mana> that = new ArrayList<>(this);
-        Set<String> list = new HashSet<>();
-
-        for (int i = this.size() - 1; i >= 0; i--) {
-            String s;
-            if (that.get(i) instanceof ConditionalMana) {
-                s = that.get(i).toString() + ((ConditionalMana) that.get(i)).getConditionString();
-            } else {
-                s = that.get(i).toString();
-            }
-            if (s.isEmpty()) {
-                this.remove(i);
-            } else if (list.contains(s)) {
-                // remove duplicated
-                this.remove(i);
-            } else {
-                list.add(s);
-            }
+        int[] packed = new int[that.size() * PACKED_SIZE];
+        for (int i = 0; i < that.size(); i++) {
+            packMana(that.get(i), packed, i);
         }
 
         // Remove fully included variations
-        for (int i = this.size() - 1; i >= 0; i--) {
+        for (int i = that.size() - 1; i >= 0; i--) {
             for (int ii = 0; ii < i; ii++) {
-                Mana moreValuable = Mana.getMoreValuableMana(that.get(i), that.get(ii));
+                Mana moreValuable;
+                if (packed[i * PACKED_SIZE + PACKED_PLAIN] == 1 && packed[ii * PACKED_SIZE + PACKED_PLAIN] == 1) {
+                    switch (getMoreValuablePacked(packed, i, ii)) {
+                        case 1:
+                            moreValuable = that.get(i);
+                            break;
+                        case 2:
+                            moreValuable = that.get(ii);
+                            break;
+                        default:
+                            moreValuable = null;
+                    }
+                } else {
+                    moreValuable = Mana.getMoreValuableMana(that.get(i), that.get(ii));
+                }
                 if (moreValuable != null) {
                     that.get(ii).setToMana(moreValuable);
+                    packMana(that.get(ii), packed, ii);
                     that.remove(i);
                     break;
                 }
@@ -556,6 +578,76 @@ public class ManaOptions extends LinkedHashSet<Mana> {
         this.addAll(that);
     }
 
+    private static void packMana(Mana mana, int[] packed, int index) {
+        int offset = index * PACKED_SIZE;
+        packed[offset + PACKED_WHITE] = mana.getWhite();
+        packed[offset + PACKED_BLUE] = mana.getBlue();
+        packed[offset + PACKED_BLACK] = mana.getBlack();
+        packed[offset + PACKED_RED] = mana.getRed();
+        packed[offset + PACKED_GREEN] = mana.getGreen();
+        packed[offset + PACKED_COLORLESS] = mana.getColorless();
+        packed[offset + PACKED_GENERIC] = mana.getGeneric();
+        packed[offset + PACKED_ANY] = mana.getAny();
+        packed[offset + PACKED_FLAG] = mana.getFlag() ? 1 : 0;
+        packed[offset + PACKED_COLORED] = mana.countColored();
+        packed[offset + PACKED_COUNT] = mana.count();
+        packed[offset + PACKED_PLAIN] = mana.getClass() == Mana.class ? 1 : 0;
+    }
+
+    /**
+     * Same rules as {@link Mana#getMoreValuableMana(Mana, Mana)} for two packed not conditional options
+     *
+     * @return 1 if first is more valuable, 2 if second is more valuable, 0 if they are equal or can't be compared
+     */
+    private static int getMoreValuablePacked(int[] packed, int first, int second) {
+        int mana1 = first * PACKED_SIZE;
+        int mana2 = second * PACKED_SIZE;
+
+        int more;
+        int less;
+        int result;
+        if (packed[mana2 + PACKED_ANY] > packed[mana1 + PACKED_ANY]
+                || packed[mana2 + PACKED_COLORLESS] > packed[mana1 + PACKED_COLORLESS]
+                || packed[mana2 + PACKED_COLORED] > packed[mana1 + PACKED_COLORED]
+                || (packed[mana2 + PACKED_COLORED] == packed[mana1 + PACKED_COLORED]
+                && packed[mana2 + PACKED_COLORLESS] == packed[mana1 + PACKED_COLORLESS]
+                && packed[mana2 + PACKED_COUNT] > packed[mana1 + PACKED_COUNT])) {
+            more = mana2;
+            less = mana1;
+            result = 2;
+        } else {
+            more = mana1;
+            less = mana2;
+            result = 1;
+        }
+
+        // fast exit for most pairs: more colored mana (any included) can't be paid by the any mana difference
+        if (packed[less + PACKED_ANY] > packed[more + PACKED_ANY]
+                || packed[less + PACKED_COLORLESS] > packed[more + PACKED_COLORLESS]
+                || packed[less + PACKED_COLORED] > packed[more + PACKED_COLORED]) {
+            return 0;
+        }
+
+        int anyDiff = CardUtil.overflowDec(packed[more + PACKED_ANY], packed[less + PACKED_ANY]);
+        for (int color = PACKED_WHITE; color <= PACKED_GREEN; color++) {
+            int colorDiff = CardUtil.overflowDec(packed[less + color], packed[more + color]);
+            if (colorDiff > 0) {
+                anyDiff = CardUtil.overflowDec(anyDiff, colorDiff);
+                if (anyDiff < 0) {
+                    return 0;
+                }
+            }
+        }
+
+        // same mana
+        for (int i = 0; i <= PACKED_FLAG; i++) {
+            if (packed[mana1 + i] != packed[mana2 + i]) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
     /**
      * Checks if the given mana (cost) is already included in one available mana
      * option
@@ -242,25 +242,25 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
             return abilities; // deck editor with empty game
         }
 
-        CardState cardState = game.getState().getCardState(this.getId());
-        if (cardState == null) {
-            return abilities;
-        }
+        // card without state has basic abilities only (but card parts can get abilities from the main card)
+        CardState cardState = game.getState().getCardStateReadOnly(this.getId());
 
         // collects all abilities
         Abilities<Ability> all = new AbilitiesImpl<>();
 
         // basic
-        if (!cardState.hasLostAllAbilities()) {
+        if (cardState == null || !cardState.hasLostAllAbilities()) {
             all.addAll(abilities);
         }
 
         // dynamic
-        all.addAll(cardState.getAbilities());
+        if (cardState != null) {
+            all.addAll(cardState.getAbilities());
+        }
 
         // workaround to add dynamic flashback ability from main card to all parts (example: Snapcaster Mage gives flashback to split card)
         if (!this.getId().equals(this.getMainCard().getId())) {
-            CardState mainCardState = game.getState().getCardState(this.getMainCard().getId());
+            CardState mainCardState = game.getState().getCardStateReadOnly(this.getMainCard().getId());
             if (this.getSpellAbility() != null // lands can't be casted (haven't spell ability), so ignore it
                     && mainCardState != null
                     && !mainCardState.hasLostAllAbilities()
@@ -564,7 +564,8 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     @Override
     public boolean isFaceDown(Game game) {
-        return game.getState().getCardState(objectId).isFaceDown();
+        CardState cardState = game.getState().getCardStateReadOnly(objectId);
+        return cardState != null && cardState.isFaceDown();
     }
 
     @Override
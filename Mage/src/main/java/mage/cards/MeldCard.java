@@ -4,6 +4,7 @@ import mage.abilities.Ability;
 import mage.constants.CardType;
 import mage.constants.Zone;
 import mage.counters.Counter;
+import mage.game.CardState;
 import mage.game.Game;
 import mage.game.events.ZoneChangeEvent;
 import mage.game.permanent.Permanent;
@@ -45,7 +46,8 @@ public abstract class MeldCard extends CardImpl {
     }
 
     public boolean isMelded(Game game) {
-        return game.getState().getCardState(getId()).isMelded();
+        CardState cardState = game.getState().getCardStateReadOnly(getId());
+        return cardState != null && cardState.isMelded();
     }
 
     public Card getTopHalfCard() {
@@ -1,5 +1,9 @@
 package mage.cards.repository;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
@@ -18,6 +22,8 @@ import org.apache.log4j.Logger;
 import java.io.File;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * @author North, JayDi85
@@ -34,9 +40,18 @@ public enum CardRepository {
     private static final long CARD_DB_VERSION = 54;
     // raise this if new cards were added to the server
     private static final long CARD_CONTENT_VERSION = 241;
+    private static final int SAVE_CARDS_BATCH_SIZE = 2000;
+    private static final int CARDS_CACHE_MAX_SIZE = 20000;
     private Dao<CardInfo, Object> cardDao;
     private Set<String> classNames;
 
+    // read-through cache for searches by card name and set/number (deck import, boosters, etc),
+    // keys are case insensitive like db searches, must be cleared on any cards changes in db
+    private final Cache<String, List<CardInfo>> cardsCache = CacheBuilder.newBuilder()
+            .maximumSize(CARDS_CACHE_MAX_SIZE)
+            .recordStats()
+            .build();
+
     // sets with exclusively snow basics
     public static final Set<String> snowLandSetCodes = new HashSet<>(Arrays.asList(
             "CSP",
@@ -52,9 +67,9 @@ public enum CardRepository {
         try {
             ConnectionSource connectionSource = new JdbcConnectionSource(JDBC_URL);
 
+            // cards recreate on new build checks by cards content, see updateCardsBuild
             boolean isObsolete = RepositoryUtil.isDatabaseObsolete(connectionSource, VERSION_ENTITY_NAME, CARD_DB_VERSION);
-            boolean isNewBuild = RepositoryUtil.isNewBuildRun(connectionSource, VERSION_ENTITY_NAME, CardRepository.class); // recreate db on new build
-            if (isObsolete || isNewBuild) {
+            if (isObsolete) {
                 //System.out.println("Local cards db is outdated, cleaning...");
                 TableUtils.dropTable(connectionSource, CardInfo.class, true);
             }
@@ -66,29 +81,60 @@ public enum CardRepository {
         }
     }
 
+    /**
+     * Removes all cards from db if it was made by another cards build. Cards db is an index of
+     * the cards code, so same build id (content hash of core and sets jars) allows to use the db
+     * from the previous run or from another server with the same build without re-creation.
+     *
+     * @param cardsBuild cards build id, null to skip the check (e.g. IDE's debug)
+     * @return true if cards was removed
+     */
+    public boolean updateCardsBuild(String cardsBuild) {
+        if (cardsBuild == null) {
+            return false;
+        }
+        try {
+            ConnectionSource connectionSource = cardDao.getConnectionSource();
+            if (!RepositoryUtil.isNewBuildRun(connectionSource, VERSION_ENTITY_NAME, cardsBuild)) {
+                return false;
+            }
+            logger.info("DB: new cards build, need to recreate all cards");
+            TableUtils.clearTable(connectionSource, CardInfo.class);
+            clearCache();
+            return true;
+        } catch (SQLException ex) {
+            Logger.getLogger(CardRepository.class).error("Error updating cards build in DB - ", ex);
+        }
+        return false;
+    }
+
     public void saveCards(final List<CardInfo> newCards, long newContentVersion) {
         try {
-            cardDao.callBatchTasks(() -> {
-                // add
-                if (newCards != null && !newCards.isEmpty()) {
-                    logger.info("DB: need to add " + newCards.size() + " new cards");
-                    try {
-                        for (CardInfo card : newCards) {
-                            cardDao.create(card);
-                            if (classNames != null) {
-                                classNames.add(card.getClassName());
+            // add
+            if (newCards != null && !newCards.isEmpty()) {
+                logger.info("DB: need to add " + newCards.size() + " new cards");
+                // inserts by batches, commit of one big transaction with all cards is too slow
+                for (int from = 0; from < newCards.size(); from += SAVE_CARDS_BATCH_SIZE) {
+                    List<CardInfo> batch = newCards.subList(from, Math.min(from + SAVE_CARDS_BATCH_SIZE, newCards.size()));
+                    cardDao.callBatchTasks(() -> {
+                        try {
+                            for (CardInfo card : batch) {
+                                cardDao.create(card);
+                                if (classNames != null) {
+                                    classNames.add(card.getClassName());
+                                }
                             }
+                        } catch (SQLException ex) {
+                            Logger.getLogger(CardRepository.class).error("Error adding cards to DB - ", ex);
                         }
-                    } catch (SQLException ex) {
-                        Logger.getLogger(CardRepository.class).error("Error adding cards to DB - ", ex);
-                    }
+                        return null;
+                    });
                 }
+            }
 
-                // no card updates
-
-                return null;
-            });
+            // no card updates
 
+            clearCache();
             setContentVersion(newContentVersion);
         } catch (Exception ex) {
             //
@@ -276,31 +322,54 @@ public enum CardRepository {
     }
 
     public CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            if (ignoreNightCards) {
-                queryBuilder.limit(1L).where()
-                        .eq("setCode", new SelectArg(setCode))
-                        .and().eq("cardNumber", new SelectArg(cardNumber))
-                        .and().eq("nightCard", new SelectArg(false));
-            } else {
-                queryBuilder.limit(1L).where()
-                        .eq("setCode", new SelectArg(setCode))
-                        .and().eq("cardNumber", new SelectArg(cardNumber));
+        String key = "number-" + ignoreNightCards + "-" + getCardKey(setCode, cardNumber);
+        List<CardInfo> result = findCardsWithCache(key, () -> findCardFromDB(setCode, cardNumber, ignoreNightCards));
+        return result.isEmpty() ? null : result.get(0);
+    }
 
-                // some double faced cards can use second side card with same number as main side
-                // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
-                queryBuilder.orderBy("nightCard", true);
-            }
-            List<CardInfo> result = cardDao.query(queryBuilder.prepare());
-            if (!result.isEmpty()) {
-                return result.get(0);
+    private List<CardInfo> findCardFromDB(String setCode, String cardNumber, boolean ignoreNightCards) throws SQLException {
+        QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
+        if (ignoreNightCards) {
+            queryBuilder.limit(1L).where()
+                    .eq("setCode", new SelectArg(setCode))
+                    .and().eq("cardNumber", new SelectArg(cardNumber))
+                    .and().eq("nightCard", new SelectArg(false));
+        } else {
+            queryBuilder.limit(1L).where()
+                    .eq("setCode", new SelectArg(setCode))
+                    .and().eq("cardNumber", new SelectArg(cardNumber));
+
+            // some double faced cards can use second side card with same number as main side
+            // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
+            queryBuilder.orderBy("nightCard", true);
+        }
+        return cardDao.query(queryBuilder.prepare());
+    }
+
+    /**
+     * Keys of all cards in the db (main and night sides), see {@link #getCardKey(String, String)}.
+     * Same search result as findCard(setCode, cardNumber, false) for every card but by one query.
+     */
+    public Set<String> getCardKeys() {
+        Set<String> keys = new HashSet<>();
+        try {
+            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
+            qb.selectColumns("setCode", "cardNumber");
+            List<CardInfo> results = cardDao.query(qb.prepare());
+            for (CardInfo card : results) {
+                keys.add(getCardKey(card.getSetCode(), card.getCardNumber()));
             }
         } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error finding card from DB : " + ex);
-
+            Logger.getLogger(CardRepository.class).error("Error getting card keys from DB : " + ex);
         }
-        return null;
+        return keys;
+    }
+
+    /**
+     * Card key for set code and card number, case insensitive like db searches (IGNORECASE)
+     */
+    public static String getCardKey(String setCode, String cardNumber) {
+        return (setCode + "-" + cardNumber).toLowerCase(Locale.ENGLISH);
     }
 
     public List<String> getClassNames() {
@@ -353,10 +422,13 @@ public enum CardRepository {
     }
 
     public CardInfo findPreferredCoreExpansionCard(String name, String preferredSetCode) {
-        List<CardInfo> cards;
-        cards = findCards(name);
-
-        return findPreferredOrLatestCard(cards, preferredSetCode);
+        // search result depends on all card's sets, so it's cached too
+        String key = "preferred-" + preferredSetCode + "-" + name.toLowerCase(Locale.ENGLISH);
+        List<CardInfo> result = findCardsWithCache(key, () -> {
+            CardInfo card = findPreferredOrLatestCard(findCards(name), preferredSetCode);
+            return card == null ? Collections.emptyList() : Collections.singletonList(card);
+        });
+        return result.isEmpty() ? null : result.get(0);
     }
 
     private CardInfo findPreferredOrLatestCard(List<CardInfo> cards, String preferredSetCode) {
@@ -447,74 +519,99 @@ public enum CardRepository {
      *                              or an empty list if the card was not found.
      */
     public List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf) {
+        String key = "name-" + limitByMaxAmount + "-" + returnSplitCardHalf + "-" + name.toLowerCase(Locale.ENGLISH);
+        return findCardsWithCache(key, () -> findCardsFromDB(name, limitByMaxAmount, returnSplitCardHalf));
+    }
+
+    private List<CardInfo> findCardsFromDB(String name, long limitByMaxAmount, boolean returnSplitCardHalf) throws SQLException {
         List<CardInfo> results;
         QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
         if (limitByMaxAmount > 0) {
             queryBuilder.limit(limitByMaxAmount);
         }
 
-        try {
-            if (name.contains(" // ")) { //
-                // Try to see if it's a split card first. (Split card stored in DB under full card name)
-                // Could be made faster by searching assuming it's NOT a split card and first searching by the first
-                // half of the name, but this is easier to understand.
-                queryBuilder.where().eq("name", new SelectArg(name));
-                results = cardDao.query(queryBuilder.prepare());
+        if (name.contains(" // ")) { //
+            // Try to see if it's a split card first. (Split card stored in DB under full card name)
+            // Could be made faster by searching assuming it's NOT a split card and first searching by the first
+            // half of the name, but this is easier to understand.
+            queryBuilder.where().eq("name", new SelectArg(name));
+            results = cardDao.query(queryBuilder.prepare());
 
-                // Result comes back empty, try to search using the first half (could be Adventure, MDFC, etc.)
-                if (results.isEmpty()) {
-                    String mainCardName = name.split(" // ", 2)[0];
-                    queryBuilder.where().eq("name", new SelectArg(mainCardName));
-                    results = cardDao.query(queryBuilder.prepare());  // If still empty, then card can't be found
-                }
-            } else { // Cannot tell if string represents the full name of a card or only part of it.
-                // Assume it is the full card name
-                queryBuilder.where().eq("name", new SelectArg(name));
+            // Result comes back empty, try to search using the first half (could be Adventure, MDFC, etc.)
+            if (results.isEmpty()) {
+                String mainCardName = name.split(" // ", 2)[0];
+                queryBuilder.where().eq("name", new SelectArg(mainCardName));
+                results = cardDao.query(queryBuilder.prepare());  // If still empty, then card can't be found
+            }
+        } else { // Cannot tell if string represents the full name of a card or only part of it.
+            // Assume it is the full card name
+            queryBuilder.where().eq("name", new SelectArg(name));
+            results = cardDao.query(queryBuilder.prepare());
+
+            if (results.isEmpty()) {
+                // Nothing found when looking for main name, try looking under the other names
+                queryBuilder.where()
+                        .eq("flipCardName",                     new SelectArg(name)).or()
+                        .eq("secondSideName",                   new SelectArg(name)).or()
+                        .eq("adventureSpellName",               new SelectArg(name)).or()
+                        .eq("modalDoubleFacedSecondSideName",   new SelectArg(name));
                 results = cardDao.query(queryBuilder.prepare());
-
-                if (results.isEmpty()) {
-                    // Nothing found when looking for main name, try looking under the other names
+            } else {
+                // Check that a full card was found and not a SplitCardHalf
+                // Can be caused by searching for "Fire" instead of "Fire // Ice"
+                CardInfo firstCardInfo = results.get(0);
+                if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
+                    // Find the main card by its setCode and CardNumber
                     queryBuilder.where()
-                            .eq("flipCardName",                     new SelectArg(name)).or()
-                            .eq("secondSideName",                   new SelectArg(name)).or()
-                            .eq("adventureSpellName",               new SelectArg(name)).or()
-                            .eq("modalDoubleFacedSecondSideName",   new SelectArg(name));
-                    results = cardDao.query(queryBuilder.prepare());
-                } else {
-                    // Check that a full card was found and not a SplitCardHalf
-                    // Can be caused by searching for "Fire" instead of "Fire // Ice"
-                    CardInfo firstCardInfo = results.get(0);
-                    if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
-                        // Find the main card by its setCode and CardNumber
-                        queryBuilder.where()
-                                .eq("setCode", new SelectArg(firstCardInfo.setCode)).and()
-                                .eq("cardNumber", new SelectArg(firstCardInfo.cardNumber));
-                        List<CardInfo> tmpResults = cardDao.query(queryBuilder.prepare());
-
-                        String fullSplitCardName = null;
-                        for (CardInfo cardInfo : tmpResults) {
-                            if (cardInfo.isSplitCard()) {
-                                fullSplitCardName = cardInfo.name;
-                                break;
-                            }
+                            .eq("setCode", new SelectArg(firstCardInfo.setCode)).and()
+                            .eq("cardNumber", new SelectArg(firstCardInfo.cardNumber));
+                    List<CardInfo> tmpResults = cardDao.query(queryBuilder.prepare());
+
+                    String fullSplitCardName = null;
+                    for (CardInfo cardInfo : tmpResults) {
+                        if (cardInfo.isSplitCard()) {
+                            fullSplitCardName = cardInfo.name;
+                            break;
                         }
-                        if (fullSplitCardName == null) {
-                            return Collections.emptyList();
-                        }
-
-                        queryBuilder.where().eq("name", new SelectArg(fullSplitCardName));
-                        results = cardDao.query(queryBuilder.prepare());
                     }
+                    if (fullSplitCardName == null) {
+                        return Collections.emptyList();
+                    }
+
+                    queryBuilder.where().eq("name", new SelectArg(fullSplitCardName));
+                    results = cardDao.query(queryBuilder.prepare());
                 }
             }
-            return results;
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement", ex);
         }
+        return results;
+    }
 
+    /**
+     * Searches cards by db query or returns a copy of the cached result
+     */
+    private List<CardInfo> findCardsWithCache(String key, Callable<List<CardInfo>> dbSearch) {
+        try {
+            return new ArrayList<>(cardsCache.get(key, dbSearch));
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            Logger.getLogger(CardRepository.class).error("Error during execution of card repository query statement", ex.getCause());
+        }
         return Collections.emptyList();
     }
 
+    public void clearCache() {
+        cardsCache.invalidateAll();
+    }
+
+    public CacheStats getCacheStats() {
+        return cardsCache.stats();
+    }
+
+    public String getCacheStatsInfo() {
+        CacheStats stats = cardsCache.stats();
+        return String.format("size %d, requests %d, hit rate %.1f%%, evictions %d",
+                cardsCache.size(), stats.requestCount(), stats.hitRate() * 100, stats.evictionCount());
+    }
+
     public List<CardInfo> findCards(String name, long limitByMaxAmount) {
         return findCards(name, limitByMaxAmount, false);
     }
@@ -619,6 +716,7 @@ public enum CardRepository {
         try {
             ConnectionSource connectionSource = new JdbcConnectionSource(JDBC_URL);
             cardDao = DaoManager.createDao(connectionSource, CardInfo.class);
+            clearCache();
         } catch (SQLException ex) {
             Logger.getLogger(CardRepository.class).error("Error opening card repository - ", ex);
         }
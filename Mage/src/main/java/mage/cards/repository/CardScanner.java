@@ -1,12 +1,12 @@
 package mage.cards.repository;
 
 import mage.cards.*;
+import mage.util.JarVersion;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @author North
@@ -27,7 +27,6 @@ public final class CardScanner {
         }
         scanned = true;
 
-        List<CardInfo> cardsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToUpdate = new ArrayList<>();
 
@@ -50,38 +49,90 @@ public final class CardScanner {
         }
         ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
+        // check cards build (recreate all cards on changed cards code)
+        CardRepository.instance.updateCardsBuild(getCardsBuild());
+
         // check cards (only add mode, without updates)
+        // all db cards are loaded by one query instead search by set and number for each card
+        Set<String> existingCards = CardRepository.instance.getCardKeys();
+        List<CardSetInfo> newCards = new ArrayList<>();
+        List<Class<?>> newCardClasses = new ArrayList<>();
         for (ExpansionSet set : Sets.getInstance().values()) {
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
-                if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
+                if (!existingCards.contains(CardRepository.getCardKey(set.getCode(), setInfo.getCardNumber()))) {
                     // found new card
-                    Card card = CardImpl.createCard(
-                            setInfo.getCardClass(),
-                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
-                            errorsList);
-                    if (card != null) {
-                        // Adds only main card, except night cards.
-
-                        // TODO: remove night cards from sets and db someday
-                        // Possible reasons for night cards in sets:
-                        // - direct put night card to battlefield by name in tests;
-                        // - images download;
-                        // - in old days xmage client was able to works without card classes, e.g.
-                        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
-
-                        cardsToAdd.add(new CardInfo(card));
-                        if (card instanceof SplitCard) {
-                            SplitCard splitCard = (SplitCard) card;
-                            cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                            cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
-                        }
-                    }
+                    newCards.add(new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()));
+                    newCardClasses.add(setInfo.getCardClass());
                 }
             }
         }
+
+        // new cards creates in parallel (all cards on first run), result keeps the sets order
+        List<String> errors = errorsList == null ? null : Collections.synchronizedList(errorsList);
+        List<CardInfo> cardsToAdd = IntStream.range(0, newCards.size())
+                .parallel()
+                .mapToObj(i -> createCardInfos(newCardClasses.get(i), newCards.get(i), errors))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
         CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
     }
 
+    /**
+     * Cards build id: content hash of the core and sets jars (include custom sets from extensions)
+     *
+     * @return build id or null for dir sources (e.g. IDE's debug)
+     */
+    private static String getCardsBuild() {
+        List<Class<?>> classes = new ArrayList<>();
+        classes.add(CardRepository.class);
+        for (ExpansionSet set : Sets.getInstance().values()) {
+            classes.add(set.getClass());
+        }
+        Set<String> jarPaths = new TreeSet<>();
+        for (Class<?> clazz : classes) {
+            String jarPath = JarVersion.getJarPath(clazz);
+            if (jarPath == null) {
+                return null;
+            }
+            jarPaths.add(jarPath);
+        }
+
+        long hash = 0;
+        for (String jarPath : jarPaths) {
+            Long jarHash = JarVersion.getJarContentHash(jarPath);
+            if (jarHash == null) {
+                return null;
+            }
+            hash = 31 * hash + jarHash;
+        }
+        return "cards-" + Long.toHexString(hash);
+    }
+
+    private static List<CardInfo> createCardInfos(Class<?> cardClass, CardSetInfo cardSetInfo, List<String> errorsList) {
+        Card card = CardImpl.createCard(cardClass, cardSetInfo, errorsList);
+        if (card == null) {
+            return Collections.emptyList();
+        }
+
+        // Adds only main card, except night cards.
+
+        // TODO: remove night cards from sets and db someday
+        // Possible reasons for night cards in sets:
+        // - direct put night card to battlefield by name in tests;
+        // - images download;
+        // - in old days xmage client was able to works without card classes, e.g.
+        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
+
+        List<CardInfo> cardInfos = new ArrayList<>();
+        cardInfos.add(new CardInfo(card));
+        if (card instanceof SplitCard) {
+            SplitCard splitCard = (SplitCard) card;
+            cardInfos.add(new CardInfo(splitCard.getLeftHalfCard()));
+            cardInfos.add(new CardInfo(splitCard.getRightHalfCard()));
+        }
+        return cardInfos;
+    }
+
     public static List<Card> getAllCards() {
         return getAllCards(true);
     }
@@ -65,7 +65,13 @@ public final class RepositoryUtil {
         if (!JarVersion.isBuildTimeOk(currentBuild)) {
             return false;
         }
+        return isNewBuildRun(connectionSource, entityName, currentBuild);
+    }
 
+    /**
+     * @param currentBuild any build id like build time or content hash, it's saved to db after check
+     */
+    public static boolean isNewBuildRun(ConnectionSource connectionSource, String entityName, String currentBuild) throws SQLException {
         TableUtils.createTableIfNotExists(connectionSource, DatabaseBuild.class);
         Dao<DatabaseBuild, Object> dbBuildDao = DaoManager.createDao(connectionSource, DatabaseBuild.class);
 
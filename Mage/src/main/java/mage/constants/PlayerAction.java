@@ -56,6 +56,7 @@ public enum PlayerAction {
     CLIENT_DOWNLOAD_CARD_IMAGES,
     CLIENT_RECONNECT,
     CLIENT_REPLAY_ACTION,
+    CLIENT_RESYNC_GAME_VIEW,
     HOLD_PRIORITY,
     UNHOLD_PRIORITY,
     VIEW_LIMITED_DECK,
@@ -2,6 +2,7 @@ package mage.filter;
 
 import mage.abilities.Ability;
 import mage.constants.SubType;
+import mage.constants.TargetController;
 import mage.filter.predicate.ObjectSourcePlayer;
 import mage.filter.predicate.ObjectSourcePlayerPredicate;
 import mage.game.Game;
@@ -17,6 +18,19 @@ import java.util.UUID;
  */
 public class FilterPermanent extends FilterObject<Permanent> implements FilterInPlay<Permanent> {
 
+    // filters that use the default player match, see requiresControlledByPlayer
+    private static final ClassValue<Boolean> defaultPlayerMatch = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("match", Permanent.class, UUID.class, Ability.class, Game.class)
+                        .getDeclaringClass() == FilterPermanent.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     protected final List<ObjectSourcePlayerPredicate<Permanent>> extraPredicates = new ArrayList<>();
 
     public FilterPermanent() {
@@ -58,6 +72,17 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
         return extraPredicates.stream().allMatch(p -> p.apply(osp, game));
     }
 
+    /**
+     * Only permanents controlled by the player of {@link #match(Permanent, UUID, Ability, Game)}
+     * can match (e.g. "creature you control"), so the battlefield can skip permanents of other players
+     *
+     * @return
+     */
+    public boolean requiresControlledByPlayer() {
+        return extraPredicates.contains(TargetController.YOU.getControllerPredicate())
+                && defaultPlayerMatch.get(getClass());
+    }
+
     public final void add(ObjectSourcePlayerPredicate predicate) {
         if (isLockedFilter()) {
             throw new UnsupportedOperationException("You may not modify a locked filter");
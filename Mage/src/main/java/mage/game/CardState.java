@@ -111,6 +111,13 @@ public class CardState implements Serializable, Copyable<CardState> {
         setLostAllAbilities(false);
     }
 
+    /**
+     * Card has gained or lost abilities from layered effects (see clearAbilities)
+     */
+    public boolean hasDynamicAbilities() {
+        return abilities != null || lostAllAbilities;
+    }
+
     public void clear() {
         counters.clear();
         info = null;
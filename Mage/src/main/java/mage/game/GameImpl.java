@@ -428,9 +428,11 @@ public abstract class GameImpl implements Game {
             }
         }
 
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
+        if (isInCommandZone(objectId)) {
+            for (CommandObject commandObject : state.getCommand()) {
+                if (commandObject.getId().equals(objectId)) {
+                    return commandObject;
+                }
             }
         }
 
@@ -475,13 +477,16 @@ public abstract class GameImpl implements Game {
         if (object != null) {
             return object;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject instanceof Commander && commandObject.getId().equals(objectId)) {
-                return commandObject;
+        boolean inCommandZone = isInCommandZone(objectId);
+        if (inCommandZone) {
+            for (CommandObject commandObject : state.getCommand()) {
+                if (commandObject instanceof Commander && commandObject.getId().equals(objectId)) {
+                    return commandObject;
+                }
             }
         }
         object = getCard(objectId);
-        if (object == null) {
+        if (object == null && inCommandZone) {
             for (CommandObject commandObject : state.getCommand()) {
                 if (commandObject.getId().equals(objectId)) {
                     return commandObject;
@@ -491,6 +496,15 @@ public abstract class GameImpl implements Game {
         return object;
     }
 
+    /**
+     * Command objects get the COMMAND zone on add (see GameState.addCommandObject) and leave the
+     * command list before any zone change, so ids with another known zone can skip the command scan
+     */
+    private boolean isInCommandZone(UUID objectId) {
+        Zone zone = state.getZone(objectId);
+        return zone == null || zone == Zone.COMMAND;
+    }
+
     @Override
     public MageObject getEmblem(UUID objectId) {
         if (objectId == null) {
@@ -1191,6 +1205,7 @@ public abstract class GameImpl implements Game {
             if (companion != null) {
                 this.informPlayers(player.getLogName() + " has chosen " + companion.getLogName() + " as their companion.");
                 this.getState().getCompanion().update(player.getName() + "'s companion", new CardsImpl(companion));
+                this.getState().changed(this);
             }
         });
 
@@ -3300,7 +3315,7 @@ public abstract class GameImpl implements Game {
         savedStates = new Stack<>();
         tableEventSource = new TableEventSource();
         playerQueryEventSource = new PlayerQueryEventSource();
-        gameStates = new GameStates();
+        gameStates = new GameStates(getSavedGameStatesMemory());
     }
 
     /**
@@ -3403,7 +3418,8 @@ public abstract class GameImpl implements Game {
             // Must save all card parts (mdf, split)
             CardUtil.getObjectParts(object).forEach(partId -> {
                 Map<UUID, CardState> lkiMap = lkiCardState.computeIfAbsent(zone, k -> new HashMap<>());
-                lkiMap.put(partId, getState().getCardState(partId).copy());
+                CardState cardState = getState().getCardStateReadOnly(partId);
+                lkiMap.put(partId, cardState != null ? cardState.copy() : new CardState());
             });
         }
     }
@@ -3555,6 +3571,7 @@ public abstract class GameImpl implements Game {
     @Override
     public void setGameOptions(GameOptions options) {
         this.gameOptions = options;
+        this.gameStates.setMaxMemory(getSavedGameStatesMemory());
     }
 
     @Override
@@ -3601,6 +3618,12 @@ public abstract class GameImpl implements Game {
     @Override
     public void setSaveGame(boolean saveGame) {
         this.saveGame = saveGame;
+        this.gameStates.setMaxMemory(getSavedGameStatesMemory());
+    }
+
+    private long getSavedGameStatesMemory() {
+        // saved game (replay) needs all states
+        return saveGame ? 0 : getOptions().savedGameStatesMemoryMB * 1024L * 1024L;
     }
 
     public void setStartMessage(String startMessage) {
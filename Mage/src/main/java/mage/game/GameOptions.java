@@ -47,6 +47,12 @@ public class GameOptions implements Serializable, Copyable<GameOptions> {
      */
     public boolean rollbackTurnsAllowed = true;
 
+    /**
+     * Max memory of the table for saved game states in MB, the oldest states are dropped first (0 - unlimited).
+     * Not used for saved games (replays), they need all states
+     */
+    public int savedGameStatesMemoryMB = 64;
+
     /**
      * Names of users banned from participating in the game
      */
@@ -71,6 +77,7 @@ public class GameOptions implements Serializable, Copyable<GameOptions> {
         this.stopAtStep = options.stopAtStep;
         this.skipInitShuffling = options.skipInitShuffling;
         this.rollbackTurnsAllowed = options.rollbackTurnsAllowed;
+        this.savedGameStatesMemoryMB = options.savedGameStatesMemoryMB;
         this.bannedUsers.addAll(options.bannedUsers);
         this.planeChase = options.planeChase;
     }
@@ -10,6 +10,7 @@ import mage.cards.*;
 import mage.constants.PhaseStep;
 import mage.constants.TurnPhase;
 import mage.constants.Zone;
+import mage.counters.Counter;
 import mage.designations.Designation;
 import mage.filter.common.FilterCreaturePermanent;
 import mage.game.combat.Combat;
@@ -34,6 +35,8 @@ import mage.players.Players;
 import mage.target.Target;
 import mage.util.CardUtil;
 import mage.util.Copyable;
+import mage.util.SharedStateMap;
+import mage.util.StateHash;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -101,8 +104,8 @@ public class GameState implements Serializable, Copyable<GameState> {
     private Map<String, Object> values = new HashMap<>();
     private Map<UUID, Zone> zones = new HashMap<>();
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
-    private Map<UUID, CardState> cardState = new HashMap<>();
-    private Map<UUID, MageObjectAttribute> mageObjectAttribute = new HashMap<>();
+    private SharedStateMap<UUID, CardState> cardState = new SharedStateMap<>();
+    private SharedStateMap<UUID, MageObjectAttribute> mageObjectAttribute = new SharedStateMap<>();
     private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
     private Map<UUID, Card> copiedCards = new HashMap<>();
     private int permanentOrderNumber;
@@ -114,6 +117,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     private boolean reverseTurnOrder = false;
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
+    private long stateVersion; // Upcounting number of each state change, see getStateVersion
 
     public GameState() {
         players = new Players();
@@ -187,16 +191,15 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         this.zones.putAll(state.zones);
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        for (Map.Entry<UUID, CardState> entry : state.cardState.entrySet()) {
-            cardState.put(entry.getKey(), entry.getValue().copy());
-        }
-        for (Map.Entry<UUID, MageObjectAttribute> entry : state.mageObjectAttribute.entrySet()) {
-            mageObjectAttribute.put(entry.getKey(), entry.getValue().copy());
-        }
+        // card states are shared with the copy until changed, but gained abilities can be changed on activation
+        this.cardState = new SharedStateMap<>(state.cardState);
+        this.cardState.copyShared(CardState::hasDynamicAbilities);
+        this.mageObjectAttribute = new SharedStateMap<>(state.mageObjectAttribute);
         this.zoneChangeCounter.putAll(state.zoneChangeCounter);
         this.copiedCards.putAll(state.copiedCards);
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.stateVersion = state.stateVersion;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay.addAll(state.commandersToStay);
@@ -286,6 +289,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.stateVersion++; // restored data is a change for this state object, older versions could be reused otherwise
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay = state.commandersToStay;
@@ -448,6 +452,116 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * Hash of the data of {@link #getValue(Game, UUID)} without string building, e.g. for AI caches
+     */
+    public long getHash(Game game, UUID playerId) {
+        return getHash(game, playerId, false, true);
+    }
+
+    /**
+     * Hash of the data of {@link #getValue(boolean, Game)} with all hands known
+     */
+    public long getFullHash(Game game) {
+        return getHash(game, null, true, true);
+    }
+
+    /**
+     * Same as {@link #getFullHash(Game)} but without passed priority, like {@link #getValue(boolean)}
+     */
+    public long getPositionHash(Game game) {
+        return getHash(game, null, true, false);
+    }
+
+    private long getHash(Game game, UUID playerId, boolean allHands, boolean withPassed) {
+        long hash = StateHash.EMPTY;
+        hash = StateHash.add(hash, turnNum);
+        hash = StateHash.add(hash, turn.getPhaseType());
+        hash = StateHash.add(hash, turn.getStep() == null ? null : turn.getStep().getType());
+        hash = StateHash.add(hash, activePlayerId);
+        hash = StateHash.add(hash, priorityPlayerId);
+        hash = StateHash.add(hash, playerByOrderId);
+
+        for (Player player : players.values()) {
+            if (withPassed) {
+                hash = StateHash.add(hash, player.isPassed());
+            }
+            hash = StateHash.add(hash, player.getLife());
+            if (allHands || Objects.equals(playerId, player.getId())) {
+                hash = StateHash.add(hash, getCardNamesHash(player.getHand(), game));
+            } else {
+                hash = StateHash.add(hash, player.getHand().size());
+            }
+            hash = StateHash.add(hash, player.getLibrary().size());
+            hash = StateHash.add(hash, getCardNamesHash(player.getGraveyard(), game));
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            permanentsHash += getPermanentHash(permanent);
+        }
+        hash = StateHash.add(hash, permanentsHash);
+
+        for (StackObject spell : stack) {
+            hash = StateHash.add(hash, spell.getControllerId());
+            hash = StateHash.add(hash, spell.getName());
+            hash = StateHash.add(hash, spell.getStackAbility().getOriginalId());
+            for (UUID modeId : spell.getStackAbility().getModes().getSelectedModes()) {
+                Mode mode = spell.getStackAbility().getModes().get(modeId);
+                for (Target target : mode.getTargets()) {
+                    hash = StateHash.addIds(hash, target.getTargets());
+                }
+            }
+        }
+
+        for (ExileZone zone : exile.getExileZones()) {
+            hash = StateHash.add(hash, zone.getName());
+            hash = StateHash.add(hash, getCardNamesHash(zone, game));
+        }
+
+        for (CombatGroup group : combat.getGroups()) {
+            hash = StateHash.add(hash, group.getDefenderId());
+            hash = StateHash.addIds(hash, group.getAttackers());
+            hash = StateHash.addIds(hash, group.getBlockers());
+        }
+        return hash;
+    }
+
+    private long getPermanentHash(Permanent permanent) {
+        long hash = StateHash.EMPTY;
+        hash = StateHash.add(hash, permanent.getControllerId());
+        hash = StateHash.add(hash, permanent.getName());
+        hash = StateHash.add(hash, permanent.isTapped());
+        hash = StateHash.add(hash, permanent.getDamage());
+        hash = StateHash.addAll(hash, permanent.getSubtype());
+        hash = StateHash.addAll(hash, permanent.getSuperType());
+        hash = StateHash.add(hash, permanent.getPower().getValue());
+        hash = StateHash.add(hash, permanent.getToughness().getValue());
+        long abilitiesHash = 0;
+        for (Ability ability : permanent.getAbilities()) {
+            // same abilities of different objects must be equal, so no ids here
+            abilitiesHash += StateHash.element(ability.getClass().getName().hashCode());
+        }
+        hash = StateHash.add(hash, abilitiesHash);
+        long countersHash = 0;
+        for (Counter counter : permanent.getCounters(this).values()) {
+            countersHash += StateHash.element(StateHash.add(StateHash.add(StateHash.EMPTY, counter.getName()), counter.getCount()));
+        }
+        hash = StateHash.add(hash, countersHash);
+        return StateHash.element(hash);
+    }
+
+    private static long getCardNamesHash(Cards cards, Game game) {
+        long hash = cards.size();
+        for (UUID cardId : cards) {
+            Card card = game.getCard(cardId);
+            if (card != null) {
+                hash += StateHash.element(StateHash.add(StateHash.EMPTY, card.getName()));
+            }
+        }
+        return hash;
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -562,6 +676,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void clearRevealed() {
         revealed.clear();
+        stateVersion++;
     }
 
     public void clearLookedAt() {
@@ -570,6 +685,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void clearCompanion() {
         companion.clear();
+        stateVersion++;
     }
 
     public Turn getTurn() {
@@ -672,6 +788,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void applyEffects(Game game) {
         applyEffectsCounter++;
+        changed(game);
         for (Player player : players.values()) {
             player.reset();
         }
@@ -835,6 +952,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        changed(game);
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -845,6 +963,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        changed(game);
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -1167,15 +1286,17 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @return
      */
     public Abilities<ActivatedAbility> getActivatedOtherAbilities(UUID objectId, Zone zone) {
-        if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities().getActivatedAbilities(zone);
+        CardState state = cardState.get(objectId);
+        if (state != null) {
+            return state.getAbilities().getActivatedAbilities(zone);
         }
         return null;
     }
 
     public Abilities<Ability> getAllOtherAbilities(UUID objectId) {
-        if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities();
+        CardState state = cardState.get(objectId);
+        if (state != null) {
+            return state.getAbilities();
         }
         return null;
     }
@@ -1219,10 +1340,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         newAbility.setSourceId(attachedTo.getId());
         newAbility.setControllerId(attachedTo.getOwnerId());
-        if (!cardState.containsKey(attachedTo.getId())) {
-            cardState.put(attachedTo.getId(), new CardState());
-        }
-        cardState.get(attachedTo.getId()).addAbility(newAbility);
+        getCardState(attachedTo.getId()).addAbility(newAbility);
         addAbility(newAbility, attachedTo.getId(), attachedTo);
     }
 
@@ -1253,8 +1371,15 @@ public class GameState implements Serializable, Copyable<GameState> {
         // All gained abilities have to be removed to prevent adding it multiple times
         triggers.removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
-        for (CardState state : cardState.values()) {
-            state.clearAbilities();
+        // change only card states with abilities, others can stay shared with game copies
+        List<UUID> changedCards = new ArrayList<>();
+        cardState.forEach((cardId, state) -> {
+            if (state.hasDynamicAbilities()) {
+                changedCards.add(cardId);
+            }
+        });
+        for (UUID cardId : changedCards) {
+            cardState.getForUpdate(cardId).clearAbilities();
         }
         mageObjectAttribute.clear();
         this.setManaBurn(false);
@@ -1281,8 +1406,19 @@ public class GameState implements Serializable, Copyable<GameState> {
         return triggers;
     }
 
+    /**
+     * Card state to change, it's created if the card hasn't it yet
+     */
     public CardState getCardState(UUID cardId) {
-        cardState.putIfAbsent(cardId, new CardState());
+        return cardState.getForUpdate(cardId, k -> new CardState());
+    }
+
+    /**
+     * Card state for read only usage (it can be shared with game copies)
+     *
+     * @return card state or null if the card hasn't it
+     */
+    public CardState getCardStateReadOnly(UUID cardId) {
         return cardState.get(cardId);
     }
 
@@ -1291,7 +1427,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public MageObjectAttribute getCreateMageObjectAttribute(MageObject mageObject, Game game) {
-        MageObjectAttribute mageObjectAtt = mageObjectAttribute.computeIfAbsent(mageObject.getId(), k -> new MageObjectAttribute(mageObject, game));
+        MageObjectAttribute mageObjectAtt = mageObjectAttribute.getForUpdate(mageObject.getId(), k -> new MageObjectAttribute(mageObject, game));
         return mageObjectAtt;
     }
 
@@ -1303,6 +1439,10 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.watchers.reset();
     }
 
+    public Watchers getWatchers() {
+        return watchers;
+    }
+
     public int getZoneChangeCounter(UUID objectId) {
         return zoneChangeCounter.getOrDefault(objectId, 1);
     }
@@ -1313,8 +1453,9 @@ public class GameState implements Serializable, Copyable<GameState> {
         setZoneChangeCounter(objectId, value);
 
         // card is changing zone so clear state
-        if (cardState.containsKey(objectId)) {
-            this.cardState.get(objectId).clear();
+        CardState state = cardState.getForUpdate(objectId);
+        if (state != null) {
+            state.clear();
         }
     }
 
@@ -1431,6 +1572,33 @@ public class GameState implements Serializable, Copyable<GameState> {
         return applyEffectsCounter;
     }
 
+    /**
+     * Version of this state object, it's changed on each game event, effects
+     * apply and restore. There are no notifications about direct object
+     * changes, but all game actions fire events, so the same state object with
+     * the same version can be used as a key for calculated data (e.g. playable
+     * abilities).
+     * <p>
+     * Events from the playable checks are simulated and don't change it.
+     *
+     * @return
+     */
+    public long getStateVersion() {
+        return stateVersion;
+    }
+
+    /**
+     * Must be called on changes without events that can change the playable
+     * abilities (e.g. revealed or companion cards), see getStateVersion
+     *
+     * @param game
+     */
+    public void changed(Game game) {
+        if (!game.inCheckPlayableState()) {
+            stateVersion++;
+        }
+    }
+
     public void addPowerInsteadOfToughnessForDamageLethalityFilter(UUID source, FilterCreaturePermanent filter) {
         usePowerInsteadOfToughnessForDamageLethalityFilters.put(source, filter);
     }
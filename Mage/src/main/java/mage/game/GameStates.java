@@ -1,64 +1,501 @@
-
 package mage.game;
 
+import mage.game.match.MatchPlayer;
+import mage.util.ByteDelta;
+import mage.util.Copier;
+import mage.util.CopierObjectInputStream;
+import mage.util.FastByteArrayInputStream;
+import mage.util.FastByteArrayOutputStream;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
-import org.apache.log4j.Logger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
+ * Saved game states for undo (bookmarks) and replays.
+ * <p>
+ * The newest states are kept as objects, so undo to recent bookmarks is fast. Older states
+ * are serialized and compressed: a full keyframe every KEYFRAME_INTERVAL states and binary
+ * deltas against the keyframe between them (consecutive states differ in few bytes).
+ * <p>
+ * A state that leaves the live window is serialized by the game thread, because the states
+ * share objects with the running game (e.g. effect abilities, LKI of watchers). Match players
+ * are saved as references, they are the same for all states and contain decks and AI data.
+ * Delta and compression work on the raw data only, so they are done by background threads
+ * and the game thread waits only if they can't keep up (MAX_PENDING_STATES).
+ * <p>
+ * States keep their index for the whole game. With a memory limit the oldest encoded states
+ * are dropped by whole keyframe groups; dropped states return null. Replays must not use
+ * the limit, they need all states.
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class GameStates implements Serializable {
 
+    private static final long serialVersionUID = 1L;
+
     private static final Logger logger = Logger.getLogger(GameStates.class);
-    private final List<GameState> states;
+
+    private static final int LIVE_STATES = 10;
+    private static final int KEYFRAME_INTERVAL = 10;
+    private static final int MAX_PENDING_STATES = 10;
+
+    // shared by all games, states of one game are encoded in order by one task at a time
+    private static final ExecutorService encoder = createEncoder();
+
+    private final List<SavedState> saved = new ArrayList<>(); // older states, encoded
+    private final Deque<byte[]> pending = new ArrayDeque<>(); // older states, serialized, waiting for encoding
+    private final List<GameState> states = new ArrayList<>(); // newest states, objects
+    private final List<MatchPlayer> matchPlayers = new ArrayList<>(); // referenced by serialized states
+    private int dropped; // index of the first kept state
+    private long maxMemory; // max size of encoded states in bytes, 0 - unlimited
+    private long usedMemory;
+
+    private transient boolean encoding; // encoding task is started
+    // raw data of the last keyframes, encoding and decoding use different groups (e.g. replay)
+    private transient int encodeKeyframe = -1;
+    private transient byte[] encodeKeyframeData;
+    private transient int decodeKeyframe = -1;
+    private transient byte[] decodeKeyframeData;
 
     public GameStates() {
-        this.states = new LinkedList<>();
+        this(0);
+    }
+
+    public GameStates(long maxMemory) {
+        this.maxMemory = maxMemory;
+    }
+
+    private static ExecutorService createEncoder() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "GAME STATES ENCODER");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
-    public void save(GameState gameState) {
-//        states.add(new Copier<GameState>().copyCompressed(gameState));
+    public synchronized void save(GameState gameState) {
         states.add(gameState.copy());
-        logger.trace("Saved game state: " + states.size());
+        while (states.size() > LIVE_STATES) {
+            serialize(states.remove(0));
+        }
+        if (maxMemory > 0) {
+            dropOldest();
+        }
+        while (pending.size() > MAX_PENDING_STATES && encoding) {
+            waitForEncoder();
+        }
+        logger.trace("Saved game state: " + getSize());
     }
 
-    public int getSize() {
-        return states.size();
+    public synchronized int getSize() {
+        return dropped + saved.size() + pending.size() + states.size();
+    }
+
+    /**
+     * Index of the first kept state, older states were dropped by memory limit
+     */
+    public synchronized int getFirstIndex() {
+        return dropped;
+    }
+
+    /**
+     * Size of the encoded states, waits for the states in encoding
+     */
+    public synchronized long getUsedMemory() {
+        waitEncoded();
+        return usedMemory;
+    }
+
+    public synchronized void setMaxMemory(long maxMemory) {
+        this.maxMemory = maxMemory;
+        if (maxMemory > 0) {
+            dropOldest();
+        }
     }
 
     public GameState rollback(int index) {
-        if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index + 1) {
-                states.remove(states.size() - 1);
+        synchronized (this) {
+            if (index < dropped || index >= getSize()) {
+                return null;
             }
-            logger.trace("Rolling back state: " + index);
-//            return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            removeFrom(index + 1);
         }
-        return null;
+        logger.trace("Rolling back state: " + index);
+        return get(index);
     }
 
-    public int remove(int index) {
-        if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index && !states.isEmpty()) {
-                states.remove(states.size() - 1);
-            }
+    public synchronized int remove(int index) {
+        if (getSize() > dropped && index < getSize()) {
+            removeFrom(Math.max(index, dropped));
         }
-        return states.size();
+        if (getSize() == dropped) {
+            dropped = Math.min(dropped, index);
+        }
+        return getSize();
     }
 
     public GameState get(int index) {
-        if (index < states.size()) {
-//             return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+        SavedState savedState;
+        byte[] data;
+        synchronized (this) {
+            if (index < dropped || index >= getSize()) {
+                return null;
+            }
+            int encoded = dropped + saved.size();
+            if (index >= encoded + pending.size()) {
+                return states.get(index - encoded - pending.size());
+            }
+            if (index >= encoded) {
+                savedState = null;
+                data = new ArrayList<>(pending).get(index - encoded);
+            } else {
+                savedState = saved.get(index - dropped);
+                data = null;
+            }
         }
-        return null;
+        return savedState != null ? decode(index, savedState) : deserialize(index, data);
     }
 
-    public void clear() {
+    public synchronized void clear() {
         states.clear();
+        pending.clear();
+        saved.clear();
+        dropped = 0;
+        usedMemory = 0;
+        resetRemovedKeyframes();
+    }
+
+    /**
+     * Waits until all serialized states are encoded
+     */
+    synchronized void waitEncoded() {
+        while (encoding) {
+            waitForEncoder();
+        }
+    }
+
+    private void waitForEncoder() {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for game states encoding", e);
+        }
+    }
+
+    private void removeFrom(int index) {
+        while (getSize() > index && !states.isEmpty()) {
+            states.remove(states.size() - 1);
+        }
+        // the encoding result of a removed state is ignored
+        while (getSize() > index && !pending.isEmpty()) {
+            pending.removeLast();
+        }
+        while (getSize() > index && !saved.isEmpty()) {
+            usedMemory -= saved.remove(saved.size() - 1).getMemory();
+        }
+        resetRemovedKeyframes();
+    }
+
+    private void dropOldest() {
+        while (usedMemory > maxMemory && !saved.isEmpty()) {
+            // whole group: keyframe and its deltas (deltas in encoding are dropped on add)
+            do {
+                usedMemory -= saved.remove(0).getMemory();
+                dropped++;
+            } while (!saved.isEmpty() && !saved.get(0).isKeyframe(dropped));
+            logger.trace("Dropped oldest game states: " + dropped);
+        }
+        resetRemovedKeyframes();
+    }
+
+    private void resetRemovedKeyframes() {
+        int encoded = dropped + saved.size();
+        if (encodeKeyframe < dropped || encodeKeyframe >= encoded) {
+            encodeKeyframe = -1;
+            encodeKeyframeData = null;
+        }
+        if (decodeKeyframe < dropped || decodeKeyframe >= encoded) {
+            decodeKeyframe = -1;
+            decodeKeyframeData = null;
+        }
+    }
+
+    private void serialize(GameState state) {
+        try {
+            FastByteArrayOutputStream data = new FastByteArrayOutputStream(256 * 1024);
+            try (ObjectOutputStream out = new StateOutputStream(data)) {
+                out.writeObject(state);
+            }
+            pending.add(Arrays.copyOf(data.getByteArray(), data.getSize()));
+            if (!encoding) {
+                encoding = true;
+                encoder.execute(this::encodePending);
+            }
+        } catch (IOException | RuntimeException e) {
+            // game can continue with the object, next state starts a new group
+            logger.error("Can't encode game state " + getSize() + ", it will be kept as object", e);
+            waitEncoded();
+            saved.add(new SavedState(state));
+            encodeKeyframe = -1;
+            encodeKeyframeData = null;
+        }
+    }
+
+    /**
+     * Encoding task, runs until there are no states to encode
+     */
+    private void encodePending() {
+        try {
+            encodeAll();
+        } catch (Throwable e) {
+            // unexpected error (e.g. out of memory), states stay in the queue until the next save
+            logger.error("Game states encoding failed", e);
+            synchronized (this) {
+                encoding = false;
+                notifyAll();
+            }
+        }
+    }
+
+    private void encodeAll() {
+        while (true) {
+            byte[] data;
+            int index;
+            int keyframe;
+            byte[] keyframeData;
+            synchronized (this) {
+                data = pending.peek();
+                if (data == null) {
+                    encoding = false;
+                    notifyAll();
+                    return;
+                }
+                index = dropped + saved.size();
+                keyframe = encodeKeyframe;
+                keyframeData = encodeKeyframeData;
+            }
+
+            SavedState savedState;
+            if (keyframeData == null || index - keyframe >= KEYFRAME_INTERVAL) {
+                keyframe = index;
+                keyframeData = data;
+                savedState = new SavedState(index, compress(data, data.length));
+            } else {
+                byte[] delta = ByteDelta.create(keyframeData, keyframeData.length, data, data.length);
+                savedState = new SavedState(keyframe, compress(delta, delta.length));
+            }
+
+            synchronized (this) {
+                if (pending.peek() == data && dropped + saved.size() == index) {
+                    pending.poll();
+                    if (!savedState.isKeyframe(index) && savedState.keyframe < dropped) {
+                        // keyframe was dropped by memory limit while encoding
+                        dropped++;
+                    } else {
+                        saved.add(savedState);
+                        usedMemory += savedState.getMemory();
+                        encodeKeyframe = keyframe;
+                        encodeKeyframeData = keyframeData;
+                    }
+                    if (maxMemory > 0) {
+                        dropOldest();
+                    }
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    private GameState decode(int index, SavedState savedState) {
+        if (savedState.state != null) {
+            return savedState.state;
+        }
+        byte[] data;
+        try {
+            if (savedState.isKeyframe(index)) {
+                data = getKeyframeData(index);
+            } else {
+                data = ByteDelta.apply(getKeyframeData(savedState.keyframe), uncompress(savedState.data));
+            }
+        } catch (DataFormatException | RuntimeException e) {
+            logger.error("Can't decode game state " + index, e);
+            return null;
+        }
+        return deserialize(index, data);
+    }
+
+    private GameState deserialize(int index, byte[] data) {
+        try (ObjectInputStream in = new StateInputStream(new FastByteArrayInputStream(data, data.length))) {
+            return (GameState) in.readObject();
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            logger.error("Can't decode game state " + index, e);
+            return null;
+        }
+    }
+
+    private synchronized byte[] getKeyframeData(int keyframe) throws DataFormatException {
+        if (encodeKeyframeData != null && keyframe == encodeKeyframe) {
+            return encodeKeyframeData;
+        }
+        if (decodeKeyframeData == null || keyframe != decodeKeyframe) {
+            decodeKeyframeData = uncompress(saved.get(keyframe - dropped).data);
+            decodeKeyframe = keyframe;
+        }
+        return decodeKeyframeData;
+    }
+
+    private synchronized MatchPlayerRef getMatchPlayerRef(MatchPlayer matchPlayer) {
+        for (int i = 0; i < matchPlayers.size(); i++) {
+            if (matchPlayers.get(i) == matchPlayer) {
+                return new MatchPlayerRef(i);
+            }
+        }
+        matchPlayers.add(matchPlayer);
+        return new MatchPlayerRef(matchPlayers.size() - 1);
+    }
+
+    private synchronized MatchPlayer getMatchPlayer(MatchPlayerRef ref) {
+        return matchPlayers.get(ref.index);
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        waitEncoded();
+        out.defaultWriteObject();
+    }
+
+    private static byte[] compress(byte[] data, int length) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data, 0, length);
+            deflater.finish();
+            FastByteArrayOutputStream out = new FastByteArrayOutputStream(Math.max(1024, length / 8));
+            byte[] buffer = new byte[16 * 1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            // full size length for uncompress
+            byte[] res = new byte[out.getSize() + 4];
+            res[0] = (byte) (length >>> 24);
+            res[1] = (byte) (length >>> 16);
+            res[2] = (byte) (length >>> 8);
+            res[3] = (byte) length;
+            System.arraycopy(out.getByteArray(), 0, res, 4, out.getSize());
+            return res;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] uncompress(byte[] data) throws DataFormatException {
+        int length = ((data[0] & 0xFF) << 24) | ((data[1] & 0xFF) << 16) | ((data[2] & 0xFF) << 8) | (data[3] & 0xFF);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, 4, data.length - 4);
+            byte[] res = new byte[length];
+            int done = 0;
+            while (done < length && !inflater.finished()) {
+                int count = inflater.inflate(res, done, length - done);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Not enough compressed data");
+                }
+                done += count;
+            }
+            return res;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Encoded game state: keyframe data or delta against the keyframe
+     */
+    private static class SavedState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int keyframe; // index of the keyframe state
+        private final byte[] data;
+        private final GameState state; // used on encode errors only
+
+        SavedState(int keyframe, byte[] data) {
+            this.keyframe = keyframe;
+            this.data = data;
+            this.state = null;
+        }
+
+        SavedState(GameState state) {
+            this.keyframe = -1;
+            this.data = null;
+            this.state = state;
+        }
+
+        boolean isKeyframe(int index) {
+            return keyframe == index || state != null;
+        }
+
+        long getMemory() {
+            return data == null ? 0 : data.length;
+        }
+    }
+
+    /**
+     * Match player of a serialized state, see matchPlayers
+     */
+    private static final class MatchPlayerRef implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        MatchPlayerRef(int index) {
+            this.index = index;
+        }
+    }
+
+    private final class StateOutputStream extends ObjectOutputStream {
+
+        StateOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            return obj instanceof MatchPlayer ? getMatchPlayerRef((MatchPlayer) obj) : obj;
+        }
+    }
+
+    private final class StateInputStream extends CopierObjectInputStream {
+
+        StateInputStream(InputStream in) throws IOException {
+            super(Copier.getLoader(), in);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            return obj instanceof MatchPlayerRef ? getMatchPlayer((MatchPlayerRef) obj) : obj;
+        }
     }
 }
@@ -19,6 +19,10 @@ public class Battlefield implements Serializable {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
 
+    // permanents by controller (in battlefield order), rebuilt on demand after
+    // adds, removes and control changes
+    private transient Map<UUID, List<Permanent>> controllerIndex;
+
     public Battlefield() {
     }
 
@@ -36,10 +40,48 @@ public class Battlefield implements Serializable {
         for (Permanent perm : field.values()) {
             perm.reset(game);
         }
+        controllerIndex = null;
     }
 
     public void clear() {
         field.clear();
+        controllerIndex = null;
+    }
+
+    /**
+     * Must be called after the controller of a permanent on the battlefield was changed
+     */
+    public void controllerChanged() {
+        controllerIndex = null;
+    }
+
+    /**
+     * Permanents (including phased out) controlled by the player in battlefield order
+     */
+    private List<Permanent> getControlled(UUID controllerId) {
+        Map<UUID, List<Permanent>> index = controllerIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            for (Permanent permanent : field.values()) {
+                index.computeIfAbsent(permanent.getControllerId(), x -> new ArrayList<>()).add(permanent);
+                if (permanent instanceof PermanentImpl) {
+                    // control changes without game access (setControllerId) must reset this index
+                    ((PermanentImpl) permanent).setIndexedBy(this);
+                }
+            }
+            controllerIndex = index;
+        }
+        return index.getOrDefault(controllerId, Collections.emptyList());
+    }
+
+    /**
+     * Permanents that can match the filter for the player
+     */
+    private Collection<Permanent> getCandidates(FilterPermanent filter, UUID playerId) {
+        if (filter.requiresControlledByPlayer()) {
+            return getControlled(playerId);
+        }
+        return field.values();
     }
 
     /**
@@ -56,7 +98,7 @@ public class Battlefield implements Serializable {
      * @return count
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
+        return (int) getControlled(controllerId)
                 .stream()
                 .filter(permanent -> permanent.isControlledBy(controllerId)
                         && filter.match(permanent, game)
@@ -77,14 +119,14 @@ public class Battlefield implements Serializable {
      */
     public int count(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return (int) field.values()
+            return (int) getCandidates(filter, sourcePlayerId)
                     .stream()
                     .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn())
                     .count();
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return (int) field.values()
+            return (int) getCandidates(filter, sourcePlayerId)
                     .stream()
                     .filter(permanent -> range.contains(permanent.getControllerId())
                             && filter.match(permanent, sourcePlayerId, source, game)
@@ -109,7 +151,7 @@ public class Battlefield implements Serializable {
      * @return boolean
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
+        return getControlled(controllerId)
                 .stream()
                 .filter(permanent -> permanent.isControlledBy(controllerId)
                         && filter.match(permanent, controllerId, source, game)
@@ -135,13 +177,13 @@ public class Battlefield implements Serializable {
      */
     public boolean contains(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game, int num) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values().stream()
+            return getCandidates(filter, sourcePlayerId).stream()
                     .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn()).count() >= num;
 
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values().stream()
+            return getCandidates(filter, sourcePlayerId).stream()
                     .filter(permanent -> range.contains(permanent.getControllerId())
                             && filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn())
@@ -151,6 +193,7 @@ public class Battlefield implements Serializable {
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        controllerIndex = null;
     }
 
     /**
@@ -166,7 +209,9 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        if (field.remove(key) != null) {
+            controllerIndex = null;
+        }
     }
 
     /**
@@ -215,7 +260,7 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
-        return field.values()
+        return getControlled(controllerId)
                 .stream()
                 .filter(perm -> perm.isPhasedIn()
                         && perm.isControlledBy(controllerId))
@@ -267,7 +312,7 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
+        return getControlled(controllerId)
                 .stream()
                 .filter(perm -> perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game))
                 .collect(Collectors.toList());
@@ -300,13 +345,13 @@ public class Battlefield implements Serializable {
      */
     public List<Permanent> getActivePermanents(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values()
+            return getCandidates(filter, sourcePlayerId)
                     .stream()
                     .filter(perm -> perm.isPhasedIn() && filter.match(perm, sourcePlayerId, source, game))
                     .collect(Collectors.toList());
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
+            return getCandidates(filter, sourcePlayerId)
                     .stream()
                     .filter(perm -> perm.isPhasedIn() && range.contains(perm.getControllerId())
                             && filter.match(perm, sourcePlayerId, source, game)).collect(Collectors.toList());
@@ -337,7 +382,7 @@ public class Battlefield implements Serializable {
     }
 
     public List<Permanent> getPhasedIn(Game game, UUID controllerId) {
-        return field.values()
+        return getControlled(controllerId)
                 .stream()
                 .filter(perm -> perm.hasAbility(PhasingAbility.getInstance(), game)
                         && perm.isPhasedIn()
@@ -346,7 +391,7 @@ public class Battlefield implements Serializable {
     }
 
     public List<Permanent> getPhasedOut(Game game, UUID controllerId) {
-        return field.values()
+        return getControlled(controllerId)
                 .stream()
                 .filter(perm -> !perm.isPhasedIn() && perm.isControlledBy(controllerId))
                 .collect(Collectors.toList());
@@ -358,6 +403,7 @@ public class Battlefield implements Serializable {
                 perm.resetControl();
             }
         }
+        controllerIndex = null;
     }
 
     /**
@@ -379,8 +425,7 @@ public class Battlefield implements Serializable {
     }
 
     public int countTokens(UUID controllerId) {
-        return field
-                .values()
+        return getControlled(controllerId)
                 .stream()
                 .filter(Objects::nonNull)
                 .filter(PermanentToken.class::isInstance)
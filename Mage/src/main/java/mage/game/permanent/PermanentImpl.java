@@ -109,6 +109,8 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
     protected Map<String, String> info;
     protected int createOrder;
     protected boolean legendRuleApplies = true;
+    // battlefield with this permanent in the controller index (not copied)
+    private transient Battlefield indexedBy;
 
     private static final List<UUID> emptyList = Collections.unmodifiableList(new ArrayList<UUID>());
 
@@ -195,10 +197,18 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
 
     @Override
     public void setControllerId(UUID controllerId) {
+        if (indexedBy != null && !Objects.equals(this.controllerId, controllerId)) {
+            // permanent can be on the battlefield already
+            indexedBy.controllerChanged();
+        }
         this.controllerId = controllerId;
         abilities.setControllerId(controllerId);
     }
 
+    void setIndexedBy(Battlefield battlefield) {
+        this.indexedBy = battlefield;
+    }
+
     @Override
     public void setOriginalControllerId(UUID originalControllerId) {
         this.originalControllerId = originalControllerId;
@@ -801,6 +811,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         // must change abilities controller too
         this.controllerId = newControllerId;
         this.getAbilities().setControllerId(newControllerId);
+        game.getBattlefield().controllerChanged();
         return true;
     }
 
@@ -182,6 +182,9 @@ public abstract class PlayerImpl implements Player, Serializable {
     // Used during available mana calculation to give back possible available net mana from triggered mana abilities (No need to copy)
     protected final List<List<Mana>> availableTriggeredManaList = new ArrayList<>();
 
+    // Last getPlayable result, used while the game state is not changed (No need to copy)
+    private transient PlayableCache playableCache;
+
     /**
      * During some steps we can't play anything
      */
@@ -1717,6 +1720,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         } else {
             game.getState().getRevealed().update(CardUtil.createObjectRealtedWindowTitle(source, game, titleSuffix), cards);
         }
+        game.getState().changed(game); // revealed cards can be playable
         if (postToLog && !game.isSimulation()) {
             StringBuilder sb = new StringBuilder(getLogName()).append(" reveals ");
             int current = 0, last = cards.size();
@@ -3912,6 +3916,11 @@ public abstract class PlayerImpl implements Player, Serializable {
      * Returns a list of all available spells and abilities the player can
      * currently cast/activate with his available resources.
      * Without target validation.
+     * <p>
+     * The result is cached until the next change of the game state (see
+     * GameState#getStateVersion), so the list is new for each call, but the
+     * ability objects in it are shared between callers. Copy an ability
+     * before changing it (e.g. choosing targets or modes).
      *
      * @param game
      * @param hidden                  also from hidden objects (e.g. turned face down cards ?)
@@ -3921,11 +3930,22 @@ public abstract class PlayerImpl implements Player, Serializable {
      * @return
      */
     public List<ActivatedAbility> getPlayable(Game game, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
-        List<ActivatedAbility> playable = new ArrayList<>();
         if (shouldSkipGettingPlayable(game)) {
-            return playable;
+            return new ArrayList<>();
+        }
+
+        // same priority can ask it many times (game view for the GUI, AI, clicks on objects)
+        PlayableCache cache = playableCache;
+        if (cache != null && cache.isSame(game, hidden, fromZone, hideDuplicatedAbilities)) {
+            return new ArrayList<>(cache.playable);
         }
+        List<ActivatedAbility> playable = calculatePlayable(game, hidden, fromZone, hideDuplicatedAbilities);
+        playableCache = new PlayableCache(game, hidden, fromZone, hideDuplicatedAbilities, playable);
+        return new ArrayList<>(playable);
+    }
 
+    private List<ActivatedAbility> calculatePlayable(Game game, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        List<ActivatedAbility> playable = new ArrayList<>();
         boolean previousState = game.inCheckPlayableState();
         game.setCheckPlayableState(true);
         try {
@@ -5210,4 +5230,37 @@ public abstract class PlayerImpl implements Player, Serializable {
     public String toString() {
         return getName() + " (" + super.getClass().getSimpleName() + ")";
     }
+
+    /**
+     * Playable abilities calculated for a game state version, see GameState#getStateVersion
+     */
+    private static final class PlayableCache {
+
+        private final Game game;
+        private final GameState state;
+        private final long stateVersion;
+        private final boolean hidden;
+        private final Zone fromZone;
+        private final boolean hideDuplicatedAbilities;
+        private final List<ActivatedAbility> playable;
+
+        private PlayableCache(Game game, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities, List<ActivatedAbility> playable) {
+            this.game = game;
+            this.state = game.getState();
+            this.stateVersion = game.getState().getStateVersion();
+            this.hidden = hidden;
+            this.fromZone = fromZone;
+            this.hideDuplicatedAbilities = hideDuplicatedAbilities;
+            this.playable = playable;
+        }
+
+        private boolean isSame(Game game, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+            return this.game == game
+                    && this.state == game.getState()
+                    && this.stateVersion == game.getState().getStateVersion()
+                    && this.hidden == hidden
+                    && this.fromZone == fromZone
+                    && this.hideDuplicatedAbilities == hideDuplicatedAbilities;
+        }
+    }
 }
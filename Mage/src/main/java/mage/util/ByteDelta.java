@@ -0,0 +1,144 @@
+package mage.util;
+
+import java.util.Arrays;
+
+/**
+ * Binary delta between two byte arrays: the target is written as copies of base blocks
+ * and literal bytes. Used for serialized data with small changes between versions
+ * (e.g. saved game states).
+ * <p>
+ * Format: target length, then records of [literal length, literal bytes, copy length, copy offset],
+ * the last record has zero copy length (numbers are var ints)
+ */
+public final class ByteDelta {
+
+    private static final int BLOCK_SIZE = 16;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int HASH_POWER = pow(HASH_MULTIPLIER, BLOCK_SIZE - 1);
+
+    private ByteDelta() {
+    }
+
+    public static byte[] create(byte[] base, int baseLength, byte[] target, int targetLength) {
+        // index of base blocks by hash, values are offset + 1 (0 - empty)
+        int tableSize = Integer.highestOneBit(Math.max(16, baseLength / BLOCK_SIZE * 2)) << 1;
+        int mask = tableSize - 1;
+        int[] table = new int[tableSize];
+        for (int offset = 0; offset + BLOCK_SIZE <= baseLength; offset += BLOCK_SIZE) {
+            int slot = hash(base, offset) & mask;
+            if (table[slot] == 0) {
+                table[slot] = offset + 1;
+            }
+        }
+
+        FastByteArrayOutputStream out = new FastByteArrayOutputStream(Math.max(1024, targetLength / 8));
+        writeInt(out, targetLength);
+        int literalStart = 0;
+        int pos = 0;
+        int hash = targetLength >= BLOCK_SIZE ? hash(target, 0) : 0;
+        while (pos + BLOCK_SIZE <= targetLength) {
+            int found = table[hash & mask] - 1;
+            if (found >= 0 && equalBlocks(base, found, target, pos)) {
+                // extend match in both directions
+                int copyStart = found;
+                int matchStart = pos;
+                while (matchStart > literalStart && copyStart > 0 && base[copyStart - 1] == target[matchStart - 1]) {
+                    copyStart--;
+                    matchStart--;
+                }
+                int matchEnd = pos + BLOCK_SIZE;
+                int copyEnd = found + BLOCK_SIZE;
+                while (matchEnd < targetLength && copyEnd < baseLength && base[copyEnd] == target[matchEnd]) {
+                    copyEnd++;
+                    matchEnd++;
+                }
+                writeInt(out, matchStart - literalStart);
+                out.write(target, literalStart, matchStart - literalStart);
+                writeInt(out, matchEnd - matchStart);
+                writeInt(out, copyStart);
+                literalStart = matchEnd;
+                pos = matchEnd;
+                if (pos + BLOCK_SIZE <= targetLength) {
+                    hash = hash(target, pos);
+                }
+            } else {
+                if (pos + BLOCK_SIZE < targetLength) {
+                    hash = (hash - target[pos] * HASH_POWER) * HASH_MULTIPLIER + target[pos + BLOCK_SIZE];
+                }
+                pos++;
+            }
+        }
+        writeInt(out, targetLength - literalStart);
+        out.write(target, literalStart, targetLength - literalStart);
+        writeInt(out, 0);
+        return Arrays.copyOf(out.getByteArray(), out.getSize());
+    }
+
+    public static byte[] apply(byte[] base, byte[] delta) {
+        int[] pos = new int[1];
+        byte[] target = new byte[readInt(delta, pos)];
+        int targetPos = 0;
+        while (true) {
+            int literalLength = readInt(delta, pos);
+            System.arraycopy(delta, pos[0], target, targetPos, literalLength);
+            pos[0] += literalLength;
+            targetPos += literalLength;
+            int copyLength = readInt(delta, pos);
+            if (copyLength == 0) {
+                break;
+            }
+            int copyOffset = readInt(delta, pos);
+            System.arraycopy(base, copyOffset, target, targetPos, copyLength);
+            targetPos += copyLength;
+        }
+        if (targetPos != target.length) {
+            throw new IllegalArgumentException("Wrong delta data: " + targetPos + " of " + target.length + " bytes restored");
+        }
+        return target;
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_MULTIPLIER + data[i];
+        }
+        return hash;
+    }
+
+    private static boolean equalBlocks(byte[] base, int baseOffset, byte[] target, int targetOffset) {
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            if (base[baseOffset + i] != target[targetOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int pow(int value, int power) {
+        int res = 1;
+        for (int i = 0; i < power; i++) {
+            res *= value;
+        }
+        return res;
+    }
+
+    private static void writeInt(FastByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readInt(byte[] data, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
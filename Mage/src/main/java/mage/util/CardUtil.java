@@ -1122,7 +1122,10 @@ public final class CardUtil {
             }
 
             // debug state
-            rules.addAll(game.getState().getCardState(cardId).getInfo().values());
+            CardState cardState = game.getState().getCardStateReadOnly(cardId);
+            if (cardState != null) {
+                rules.addAll(cardState.getInfo().values());
+            }
 
             // ability hints
             List<String> abilityHints = new ArrayList<>();
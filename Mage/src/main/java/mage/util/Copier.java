@@ -22,6 +22,10 @@ public class Copier<T> {
         Copier.loader = loader;
     }
 
+    public static ClassLoader getLoader() {
+        return loader != null ? loader : Copier.class.getClassLoader();
+    }
+
     public T copy(T obj) {
         T copy = null;
 
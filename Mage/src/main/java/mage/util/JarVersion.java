@@ -2,11 +2,15 @@ package mage.util;
 
 import org.apache.log4j.Logger;
 
+import java.io.IOException;
 import java.net.URL;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.Enumeration;
 import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
 /**
@@ -51,6 +55,50 @@ public class JarVersion {
         }
     }
 
+    /**
+     * @return jar file path with the class or null for dir source (e.g. IDE's debug)
+     */
+    public static String getJarPath(Class clazz) {
+        String className = clazz.getSimpleName() + ".class";
+        URL classUrl = clazz.getResource(className);
+        if (classUrl == null || !classUrl.getProtocol().equals("jar")) {
+            return null;
+        }
+        String classPath = classUrl.getPath(); // file:/path/to/file.jar!/package/Class.class
+        try {
+            return new URL(classPath.substring(0, classPath.lastIndexOf('!'))).toURI().getPath();
+        } catch (Throwable e) {
+            logger.error("Can't find jar file for class " + clazz.getName() + " and path " + classPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * Content hash of the jar file, it's same for the jars built from the same sources (manifest
+     * and other build info from META-INF are ignored). Reads entries list only, not the files data.
+     *
+     * @return hash or null on read error
+     */
+    public static Long getJarContentHash(String jarPath) {
+        try (JarFile jarFile = new JarFile(jarPath)) {
+            // entries order can be different between builds, so hash must not depend on it
+            long hash = 0;
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.isDirectory() || entry.getName().startsWith("META-INF/")) {
+                    continue;
+                }
+                long entryHash = entry.getName().hashCode() * 0x9E3779B97F4A7C15L + entry.getCrc();
+                hash += entryHash ^ (entryHash >>> 29);
+            }
+            return hash;
+        } catch (IOException e) {
+            logger.error("Can't read jar content for path " + jarPath, e);
+            return null;
+        }
+    }
+
     public static boolean isBuildTimeOk(String buildTime) {
         return buildTime != null
                 && !buildTime.isEmpty()
@@ -0,0 +1,147 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Map of game state values with structural sharing between game copies (e.g. card states in AI simulations).
+ * <p>
+ * Values are kept in a base map, shared between a state and its copies and never changed, and in own
+ * values of the state. A copy shares the base and copies only the own values, so its cost grows with
+ * the values changed since the last merge instead of the map size. A shared value is copied to own
+ * values on the first write, so values to change must be taken by getForUpdate, values from get are
+ * read only.
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+public class SharedStateMap<K, V extends Copyable<V>> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // own values are merged to the base if they are too many for a cheap copy
+    private static final int MIN_MERGE_SIZE = 32;
+    private static final int MERGE_RATIO = 4;
+
+    private Map<K, V> base; // shared between copies, never changed
+    private Map<K, V> own;
+
+    public SharedStateMap() {
+        this.base = Collections.emptyMap();
+        this.own = new HashMap<>();
+    }
+
+    public SharedStateMap(final SharedStateMap<K, V> map) {
+        this.base = map.base;
+        this.own = new HashMap<>(map.own.size() * 2);
+        for (Map.Entry<K, V> entry : map.own.entrySet()) {
+            this.own.put(entry.getKey(), entry.getValue().copy());
+        }
+    }
+
+    /**
+     * Value for read only usage, it can be shared with other states
+     */
+    public V get(K key) {
+        V value = own.get(key);
+        return value != null ? value : base.get(key);
+    }
+
+    public boolean containsKey(K key) {
+        return own.containsKey(key) || base.containsKey(key);
+    }
+
+    /**
+     * Value to change, shared value is copied on the first call
+     *
+     * @return value or null if there are no value for the key
+     */
+    public V getForUpdate(K key) {
+        V value = own.get(key);
+        if (value == null) {
+            V shared = base.get(key);
+            if (shared != null) {
+                mergeIfNeeded();
+                value = shared.copy();
+                own.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Value to change, creates new value if there are no value for the key
+     */
+    public V getForUpdate(K key, Function<K, V> create) {
+        V value = getForUpdate(key);
+        if (value == null) {
+            mergeIfNeeded();
+            value = create.apply(key);
+            own.put(key, value);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        if (!own.containsKey(key)) {
+            mergeIfNeeded();
+        }
+        own.put(key, value);
+    }
+
+    /**
+     * Copies shared values which must not be used by different states (e.g. with mutable objects
+     * inside that can be changed by read only usage)
+     */
+    public void copyShared(Predicate<V> filter) {
+        for (Map.Entry<K, V> entry : base.entrySet()) {
+            if (!own.containsKey(entry.getKey()) && filter.test(entry.getValue())) {
+                own.put(entry.getKey(), entry.getValue().copy());
+            }
+        }
+    }
+
+    /**
+     * Iterates all values for read only usage
+     */
+    public void forEach(BiConsumer<K, V> action) {
+        own.forEach(action);
+        for (Map.Entry<K, V> entry : base.entrySet()) {
+            if (!own.containsKey(entry.getKey())) {
+                action.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public int size() {
+        int size = own.size();
+        for (K key : base.keySet()) {
+            if (!own.containsKey(key)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        base = Collections.emptyMap();
+        own = new HashMap<>();
+    }
+
+    private void mergeIfNeeded() {
+        if (own.size() < MIN_MERGE_SIZE || own.size() * MERGE_RATIO < base.size()) {
+            return;
+        }
+        // own values become shared: new base for the next copies, old base is kept by older copies
+        Map<K, V> merged = new HashMap<>((base.size() + own.size()) * 2);
+        merged.putAll(base);
+        merged.putAll(own);
+        base = merged;
+        own = new HashMap<>();
+    }
+}
@@ -0,0 +1,70 @@
+package mage.util;
+
+import java.util.UUID;
+
+/**
+ * 64-bit hash helpers for game state keys (e.g. AI transposition caches), see {@link mage.game.GameState#getHash(mage.game.Game, UUID)}
+ * <p>
+ * Ordered parts are combined with {@link #add}, unordered parts (e.g. permanents) are hashed one by one
+ * and summed, so the result doesn't depend on iteration order. Nothing is allocated, unlike state strings.
+ */
+public final class StateHash {
+
+    public static final long EMPTY = 0x9E3779B97F4A7C15L;
+
+    private StateHash() {
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static long add(long hash, long value) {
+        return mix(hash * 31 + value);
+    }
+
+    public static long add(long hash, boolean value) {
+        return add(hash, value ? 1231 : 1237);
+    }
+
+    public static long add(long hash, UUID value) {
+        if (value == null) {
+            return add(hash, 0);
+        }
+        return add(add(hash, value.getMostSignificantBits()), value.getLeastSignificantBits());
+    }
+
+    public static long add(long hash, String value) {
+        return add(hash, value == null ? 0 : value.hashCode());
+    }
+
+    public static long add(long hash, Enum<?> value) {
+        return add(hash, value == null ? -1 : value.ordinal());
+    }
+
+    public static long addAll(long hash, Iterable<? extends Enum<?>> values) {
+        for (Enum<?> value : values) {
+            hash = add(hash, value);
+        }
+        return hash;
+    }
+
+    public static long addIds(long hash, Iterable<UUID> ids) {
+        for (UUID id : ids) {
+            hash = add(hash, id);
+        }
+        return hash;
+    }
+
+    /**
+     * Hash of one element of an unordered part, sum it up with the other elements
+     */
+    public static long element(long hash) {
+        return mix(hash);
+    }
+}
@@ -0,0 +1,221 @@
+package mage.watchers;
+
+import mage.cards.Cards;
+import mage.players.PlayerList;
+import mage.util.Copyable;
+import org.apache.log4j.Logger;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Copy plan of a watcher class, see {@link Watcher#copy()}
+ * <p>
+ * Constructor lookup, field lookup and the generic type checks are done once per watcher class,
+ * copying a watcher only runs the prepared field copiers.
+ */
+final class WatcherCopier {
+
+    private static final Logger logger = Logger.getLogger(WatcherCopier.class);
+
+    private static final ClassValue<WatcherCopier> copiers = new ClassValue<WatcherCopier>() {
+        @Override
+        protected WatcherCopier computeValue(Class<?> type) {
+            return new WatcherCopier(type);
+        }
+    };
+
+    private enum FieldType {
+        SET, // Set<Object>
+        SORTED_SET_MAP, // Map<UUID, SortedSet<Object>>
+        SET_MAP, // Map<UUID, Set<Object>>
+        PLAYER_LIST_MAP, // Map<UUID, PlayerList>
+        CARDS_MAP, // Map<UUID, Cards>
+        COPYABLE_MAP, // Map<UUID, Copyable>
+        LIST_MAP, // Map<UUID, List<Object>>
+        MAP_MAP, // Map<UUID, Map<UUID, Object>>
+        MAP, // Map<UUID, Object>
+        LIST, // List<Object>
+        OBJECT
+    }
+
+    private static final class FieldCopier {
+
+        private final Field field;
+        private final FieldType type;
+
+        private FieldCopier(Field field, FieldType type) {
+            this.field = field;
+            this.type = type;
+        }
+    }
+
+    private final String name;
+    private final Constructor<?> constructor;
+    private final Object[] args;
+    private final List<FieldCopier> fields = new ArrayList<>();
+
+    static WatcherCopier of(Class<? extends Watcher> type) {
+        return copiers.get(type);
+    }
+
+    private WatcherCopier(Class<?> type) {
+        this.name = type.getSimpleName();
+
+        //use getDeclaredConstructors to allow for package-private constructors (i.e. omit public)
+        Constructor<?>[] constructors = type.getDeclaredConstructors();
+        if (constructors.length > 1) {
+            this.constructor = null;
+            this.args = null;
+            return;
+        }
+
+        this.constructor = constructors[0];
+        this.constructor.setAccessible(true);
+        this.args = new Object[constructor.getParameterCount()];
+        for (int index = 0; index < args.length; index++) {
+            Class<?> parameterType = constructor.getParameterTypes()[index];
+            if (parameterType.isPrimitive() && parameterType.getSimpleName().equalsIgnoreCase("boolean")) {
+                args[index] = false;
+            }
+        }
+
+        // collect all fields
+        List<Field> allFields = new ArrayList<>();
+        allFields.addAll(Arrays.asList(type.getDeclaredFields()));
+        allFields.addAll(Arrays.asList(type.getSuperclass().getDeclaredFields()));
+        for (Field field : allFields) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                fields.add(new FieldCopier(field, fieldType(field)));
+            }
+        }
+    }
+
+    private static FieldType fieldType(Field field) {
+        if (field.getType() == Set.class) {
+            return FieldType.SET;
+        }
+        if (field.getType() == List.class) {
+            return FieldType.LIST;
+        }
+        if (field.getType() != Map.class && field.getType() != HashMap.class) {
+            return FieldType.OBJECT;
+        }
+
+        ParameterizedType parameterizedType = (ParameterizedType) field.getGenericType();
+        Type valueType = parameterizedType.getActualTypeArguments()[1];
+        if (valueType.getTypeName().contains("SortedSet")) {
+            return FieldType.SORTED_SET_MAP;
+        } else if (valueType.getTypeName().contains("Set")) {
+            return FieldType.SET_MAP;
+        } else if (valueType.getTypeName().contains("PlayerList")) {
+            return FieldType.PLAYER_LIST_MAP;
+        } else if (valueType.getTypeName().endsWith("Cards")) {
+            return FieldType.CARDS_MAP;
+        } else if (valueType instanceof Class && Arrays.stream(((Class<?>) valueType).getInterfaces()).anyMatch(c -> c.equals(Copyable.class))) {
+            return FieldType.COPYABLE_MAP;
+        } else if (valueType.getTypeName().contains("List")) {
+            return FieldType.LIST_MAP;
+        } else if (valueType.getTypeName().contains("Map")) {
+            return FieldType.MAP_MAP;
+        }
+        // other values are shared by the copy (must be immutable, e.g. Integer or MageObjectReference), see WatcherTest
+        return FieldType.MAP;
+    }
+
+    <T extends Watcher> T copy(Watcher source) {
+        if (constructor == null) {
+            logger.error(name + " has multiple constructors");
+            return null;
+        }
+        try {
+            T watcher = (T) constructor.newInstance(args.clone());
+            for (FieldCopier fieldCopier : fields) {
+                copyField(fieldCopier, source, watcher);
+            }
+            return watcher;
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            logger.error("Can't copy watcher: " + e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private static void copyField(FieldCopier fieldCopier, Watcher source, Watcher target) throws IllegalAccessException {
+        Field field = fieldCopier.field;
+        switch (fieldCopier.type) {
+            case SET: {
+                Set<Object> targetSet = (Set<Object>) field.get(target);
+                targetSet.clear();
+                targetSet.addAll((Set<Object>) field.get(source));
+                break;
+            }
+            case SORTED_SET_MAP: {
+                Map<Object, Set<Object>> targetMap = clearedMap(field, target);
+                for (Map.Entry<Object, Set<Object>> e : ((Map<Object, Set<Object>>) field.get(source)).entrySet()) {
+                    targetMap.put(e.getKey(), new TreeSet<>(e.getValue()));
+                }
+                break;
+            }
+            case SET_MAP: {
+                Map<Object, Set<Object>> targetMap = clearedMap(field, target);
+                for (Map.Entry<Object, Set<Object>> e : ((Map<Object, Set<Object>>) field.get(source)).entrySet()) {
+                    targetMap.put(e.getKey(), new HashSet<>(e.getValue()));
+                }
+                break;
+            }
+            case PLAYER_LIST_MAP: {
+                Map<Object, PlayerList> targetMap = clearedMap(field, target);
+                for (Map.Entry<Object, PlayerList> e : ((Map<Object, PlayerList>) field.get(source)).entrySet()) {
+                    targetMap.put(e.getKey(), e.getValue().copy());
+                }
+                break;
+            }
+            case CARDS_MAP: {
+                Map<Object, Cards> targetMap = clearedMap(field, target);
+                for (Map.Entry<Object, Cards> e : ((Map<Object, Cards>) field.get(source)).entrySet()) {
+                    targetMap.put(e.getKey(), e.getValue().copy());
+                }
+                break;
+            }
+            case COPYABLE_MAP: {
+                Map<Object, Object> targetMap = clearedMap(field, target);
+                for (Map.Entry<Object, Copyable<?>> e : ((Map<Object, Copyable<?>>) field.get(source)).entrySet()) {
+                    targetMap.put(e.getKey(), e.getValue().copy());
+                }
+                break;
+            }
+            case LIST_MAP: {
+                Map<Object, List<Object>> targetMap = clearedMap(field, target);
+                for (Map.Entry<Object, List<Object>> e : ((Map<Object, List<Object>>) field.get(source)).entrySet()) {
+                    targetMap.put(e.getKey(), new ArrayList<>(e.getValue()));
+                }
+                break;
+            }
+            case MAP_MAP: {
+                Map<Object, Map<Object, Object>> targetMap = clearedMap(field, target);
+                for (Map.Entry<Object, Map<Object, Object>> e : ((Map<Object, Map<Object, Object>>) field.get(source)).entrySet()) {
+                    targetMap.put(e.getKey(), new HashMap<>(e.getValue()));
+                }
+                break;
+            }
+            case MAP:
+                ((Map<Object, Object>) field.get(target)).putAll((Map<Object, Object>) field.get(source));
+                break;
+            case LIST: {
+                List<Object> targetList = (List<Object>) field.get(target);
+                targetList.clear();
+                targetList.addAll((List<Object>) field.get(source));
+                break;
+            }
+            default:
+                field.set(target, field.get(source));
+        }
+    }
+
+    private static <K, V> Map<K, V> clearedMap(Field field, Watcher target) throws IllegalAccessException {
+        Map<K, V> map = (Map<K, V>) field.get(target);
+        map.clear();
+        return map;
+    }
+}
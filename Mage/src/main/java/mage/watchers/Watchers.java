@@ -5,7 +5,12 @@ import mage.game.events.GameEvent;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -14,6 +19,22 @@ public class Watchers extends HashMap<String, Watcher> {
 
     private static Logger logger = LogManager.getLogger(Watcher.class.getSimpleName());
 
+    // watchers with declared event types, see Watcher.getWatchedEventTypes
+    private static final ClassValue<Boolean> eventTypesDeclared = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("watch", GameEvent.class, Game.class).getDeclaringClass()
+                        == type.getMethod("getWatchedEventTypes").getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    // watchers to call by event type (in map order), rebuilt on demand after changes
+    private transient Map<GameEvent.EventType, List<Watcher>> eventTypeIndex;
+
     public Watchers() {
     }
 
@@ -30,11 +51,56 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        for (Watcher watcher : getWatchers(event.getType())) {
             watcher.watch(event, game);
         }
     }
 
+    private List<Watcher> getWatchers(GameEvent.EventType eventType) {
+        if (eventTypeIndex == null) {
+            eventTypeIndex = new EnumMap<>(GameEvent.EventType.class);
+        }
+        List<Watcher> watchers = eventTypeIndex.get(eventType);
+        if (watchers == null) {
+            watchers = new ArrayList<>();
+            for (Watcher watcher : values()) {
+                Set<GameEvent.EventType> eventTypes = eventTypesDeclared.get(watcher.getClass()) ? watcher.getWatchedEventTypes() : null;
+                if (eventTypes == null || eventTypes.contains(eventType)) {
+                    watchers.add(watcher);
+                }
+            }
+            eventTypeIndex.put(eventType, watchers);
+        }
+        return watchers;
+    }
+
+    @Override
+    public Watcher put(String key, Watcher watcher) {
+        eventTypeIndex = null;
+        return super.put(key, watcher);
+    }
+
+    @Override
+    public Watcher putIfAbsent(String key, Watcher watcher) {
+        Watcher old = super.putIfAbsent(key, watcher);
+        if (old == null) {
+            eventTypeIndex = null;
+        }
+        return old;
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        eventTypeIndex = null;
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        eventTypeIndex = null;
+        super.clear();
+    }
+
     public void reset() {
         this.values().forEach(Watcher::reset);
     }
@@ -6,8 +6,10 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author TheElk801
@@ -27,6 +29,11 @@ public class AbilityResolvedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.RESOLVING_ABILITY);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -5,8 +5,10 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -33,6 +35,11 @@ public class AmountOfDamageAPlayerReceivedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     public int getAmountOfDamageReceivedThisTurn(UUID playerId) {
         return amountOfDamageReceivedThisTurn.getOrDefault(playerId, 0);
     }
@@ -1,6 +1,7 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -40,6 +41,11 @@ public class BlockedAttackerWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<EventType> getWatchedEventTypes() {
+        return EnumSet.of(EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -8,6 +8,7 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -29,6 +30,11 @@ public class BlockedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     public Set<MageObjectReference> getBlockedThisTurnCreatures() {
         return this.blockedThisTurnCreatures;
     }
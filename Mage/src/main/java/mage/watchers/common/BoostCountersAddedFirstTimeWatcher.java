@@ -8,8 +8,10 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -34,6 +36,11 @@ public class BoostCountersAddedFirstTimeWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTERS_ADDED);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -7,8 +7,10 @@ import mage.game.events.GameEvent;
 import mage.players.Player;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -34,6 +36,11 @@ public class CardsAmountDrawnThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -7,7 +7,9 @@ import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -56,6 +58,11 @@ public class ControlCombatRedundancyWatcher extends Watcher { // workaround for
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_COMBAT_STEP_POST);
+    }
+
     public static void addAttackingController(UUID playerId, Duration duration, Game game) {
         ControlCombatRedundancyWatcher watcher = game.getState().getWatcher(ControlCombatRedundancyWatcher.class);
         watcher.attackingControllers.add(0, new PlayerDuration(duration, playerId));
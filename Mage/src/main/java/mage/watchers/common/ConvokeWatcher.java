@@ -36,6 +36,11 @@ public class ConvokeWatcher extends Watcher {
                 .add(new MageObjectReference(tappedCreature, game));
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CONVOKED);
+    }
+
     public static Set<MageObjectReference> getConvokingCreatures(MageObjectReference mor, Game game) {
         return game
                 .getState()
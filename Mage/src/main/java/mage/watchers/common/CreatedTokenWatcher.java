@@ -10,8 +10,10 @@ import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -43,6 +45,11 @@ public class CreatedTokenWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CREATED_TOKEN);
+    }
+
     @Override
     public void reset() {
         playerMap.clear();
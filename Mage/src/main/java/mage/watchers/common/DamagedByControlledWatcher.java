@@ -7,7 +7,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Set;
 
 /**
  *
@@ -33,6 +35,11 @@ public class DamagedByControlledWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PERMANENT);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -8,6 +8,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.events.ZoneChangeEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author emerald000
@@ -31,6 +34,11 @@ public class GravestormWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<EventType> getWatchedEventTypes() {
+        return EnumSet.of(EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -10,8 +10,10 @@ import mage.game.events.ZoneChangeEvent;
 import mage.game.stack.Spell;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -53,6 +55,11 @@ public class ManaSpentToCastWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST, GameEvent.EventType.ZONE_CHANGE);
+    }
+
     public Mana getLastManaPayment(UUID sourceId) {
         return manaMap.getOrDefault(sourceId, null);
     }
@@ -2,8 +2,10 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import mage.MageObjectReference;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -38,6 +40,11 @@ public class NumberOfTimesPermanentTargetedATurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETED);
+    }
+
     public boolean notMoreThanOnceTargetedThisTurn(Permanent creature, Game game) {
         if (permanentsTargeted.containsKey(new MageObjectReference(creature, game))) {
             return permanentsTargeted.get(new MageObjectReference(creature, game)) < 2;
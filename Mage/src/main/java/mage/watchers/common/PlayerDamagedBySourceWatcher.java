@@ -1,6 +1,7 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -38,6 +39,11 @@ public class PlayerDamagedBySourceWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     /**
      * Checks if the current object with sourceId has damaged the player during the current turn.
      * The zoneChangeCounter will be taken into account.
@@ -6,8 +6,10 @@ import mage.game.events.GameEvent;
 import mage.players.Player;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /*
@@ -42,6 +44,11 @@ public class PlayerLostLifeNonCombatWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LOST_LIFE);
+    }
+
     public int getLiveLost(UUID playerId) {
         return amountOfLifeLostThisTurn.getOrDefault(playerId, 0);
     }
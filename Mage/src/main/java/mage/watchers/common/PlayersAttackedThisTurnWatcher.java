@@ -6,8 +6,10 @@ import mage.game.events.GameEvent;
 import mage.players.PlayerList;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -59,6 +61,11 @@ public class PlayersAttackedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGINNING_PHASE_PRE, GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     public boolean hasPlayerAttackedPlayer(UUID attacker, UUID defender){
         PlayerList defendersList = playersAttackedThisTurn.getOrDefault(attacker, null);
         return defendersList != null && defendersList.contains(defender);
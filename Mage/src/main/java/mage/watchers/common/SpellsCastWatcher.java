@@ -52,6 +52,11 @@ public class SpellsCastWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<EventType> getWatchedEventTypes() {
+        return EnumSet.of(EventType.SPELL_CAST);
+    }
+
     @Override
     public void reset() {
         super.reset();
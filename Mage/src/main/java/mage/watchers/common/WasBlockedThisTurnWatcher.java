@@ -7,6 +7,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -30,6 +31,11 @@ public class WasBlockedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     public Set<MageObjectReference> getWasBlockedThisTurnCreatures() {
         return this.wasBlockedThisTurnCreatures;
     }
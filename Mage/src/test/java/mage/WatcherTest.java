@@ -4,12 +4,19 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import mage.cards.Cards;
+import mage.cards.CardsImpl;
 import mage.constants.WatcherScope;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.players.PlayerList;
 import mage.watchers.Watcher;
+import mage.watchers.common.AttackedThisTurnWatcher;
+import mage.watchers.common.CardsAmountDrawnThisTurnWatcher;
+import mage.watchers.common.DamagedByWatcher;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -173,6 +180,106 @@ public class WatcherTest {
         assertFalse(copySortedSetInMapField.containsKey("k3"));
     }
 
+    @Test
+    public void testDeepCopyListAndCopyableValues() {
+        // Given
+        UUID player1 = UUID.randomUUID();
+        UUID player2 = UUID.randomUUID();
+        UUID card1 = UUID.randomUUID();
+        PlayerList playerList = new PlayerList();
+        playerList.add(player1);
+        Cards cards = new CardsImpl();
+        cards.add(card1);
+
+        TestWatcher testWatcher = new TestWatcher(GAME);
+        testWatcher.getListField().add("v1");
+        testWatcher.getPlayerListInMapField().put("k1", playerList);
+        testWatcher.getCardsInMapField().put("k1", cards);
+
+        // When
+        TestWatcher copy = testWatcher.copy();
+
+        // And
+        testWatcher.getListField().add("v2");
+        playerList.add(player2);
+        cards.add(UUID.randomUUID());
+
+        // Then
+        assertEquals(ImmutableList.of("v1"), copy.getListField());
+        assertEquals(ImmutableList.of(player1), new ArrayList<>(copy.getPlayerListInMapField().get("k1")));
+        assertEquals(ImmutableSet.of(card1), new HashSet<>(copy.getCardsInMapField().get("k1")));
+    }
+
+    @Test
+    public void testCopyWatcherFields() {
+        // Given
+        UUID controllerId = UUID.randomUUID();
+        UUID sourceId = UUID.randomUUID();
+        TestWatcher testWatcher = new TestWatcher(WatcherScope.CARD);
+        testWatcher.setControllerId(controllerId);
+        testWatcher.setSourceId(sourceId);
+
+        // When
+        TestWatcher copy = testWatcher.copy();
+
+        // Then
+        assertEquals(WatcherScope.CARD, copy.getScope());
+        assertEquals(controllerId, copy.getControllerId());
+        assertEquals(sourceId, copy.getSourceId());
+        assertEquals(testWatcher.getKey(), copy.getKey());
+    }
+
+    @Test
+    public void testCopyCommonWatchers() {
+        // Given
+        UUID player1 = UUID.randomUUID();
+        UUID player2 = UUID.randomUUID();
+        CardsAmountDrawnThisTurnWatcher drawnWatcher = new CardsAmountDrawnThisTurnWatcher();
+        drawnWatcher.watch(GameEvent.getEvent(GameEvent.EventType.DREW_CARD, UUID.randomUUID(), player1), null);
+        drawnWatcher.watch(GameEvent.getEvent(GameEvent.EventType.DREW_CARD, UUID.randomUUID(), player1), null);
+
+        MageObjectReference attacker = new MageObjectReference(UUID.randomUUID());
+        AttackedThisTurnWatcher attackedWatcher = new AttackedThisTurnWatcher();
+        attackedWatcher.getAttackedThisTurnCreatures().add(attacker);
+        attackedWatcher.getAttackedThisTurnCreaturesCounts().put(attacker, 1);
+
+        // constructor params are not known by the copy, field values must be used
+        DamagedByWatcher damagedByWatcher = new DamagedByWatcher(true);
+
+        // When
+        CardsAmountDrawnThisTurnWatcher drawnCopy = drawnWatcher.copy();
+        AttackedThisTurnWatcher attackedCopy = attackedWatcher.copy();
+        DamagedByWatcher damagedByCopy = damagedByWatcher.copy();
+
+        // And
+        drawnWatcher.watch(GameEvent.getEvent(GameEvent.EventType.DREW_CARD, UUID.randomUUID(), player2), null);
+        attackedWatcher.getAttackedThisTurnCreaturesCounts().put(attacker, 2);
+        attackedWatcher.reset();
+
+        // Then
+        assertEquals(2, drawnCopy.getAmountCardsDrawn(player1));
+        assertEquals(0, drawnCopy.getAmountCardsDrawn(player2));
+        assertEquals(ImmutableSet.of(attacker), attackedCopy.getAttackedThisTurnCreatures());
+        assertEquals(ImmutableMap.of(attacker, 1), attackedCopy.getAttackedThisTurnCreaturesCounts());
+        assertEquals(damagedByWatcher.getKey(), damagedByCopy.getKey());
+        assertTrue(getField(damagedByCopy, "watchPlaneswalkers"));
+
+        // copy of the copy uses the same prepared fields
+        CardsAmountDrawnThisTurnWatcher drawnCopy2 = drawnCopy.copy();
+        assertEquals(2, drawnCopy2.getAmountCardsDrawn(player1));
+        assertNotSame(drawnCopy, drawnCopy2);
+    }
+
+    private static <T> T getField(Object object, String name) {
+        try {
+            Field field = object.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            return (T) field.get(object);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't read field " + name, e);
+        }
+    }
+
     private Set<String> set(String... values) {
         return Stream.of(values).collect(Collectors.toSet());
     }
@@ -186,6 +293,9 @@ public class WatcherTest {
         private Map<String, Map<String, String>> mapInMapField = new HashMap<>();
 
         private Map<String, SortedSet<String>> sortedSetInMapField = new HashMap<>();
+        private List<String> listField = new ArrayList<>();
+        private Map<String, PlayerList> playerListInMapField = new HashMap<>();
+        private Map<String, Cards> cardsInMapField = new HashMap<>();
 
         public TestWatcher(WatcherScope scope) {
             super(scope);
@@ -251,5 +361,17 @@ public class WatcherTest {
         public void setSortedSetInMapField(Map<String, SortedSet<String>> sortedSetInMapField) {
             this.sortedSetInMapField = sortedSetInMapField;
         }
+
+        public List<String> getListField() {
+            return listField;
+        }
+
+        public Map<String, PlayerList> getPlayerListInMapField() {
+            return playerListInMapField;
+        }
+
+        public Map<String, Cards> getCardsInMapField() {
+            return cardsInMapField;
+        }
     }
 }
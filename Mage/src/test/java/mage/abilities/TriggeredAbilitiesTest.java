@@ -0,0 +1,196 @@
+package mage.abilities;
+
+import mage.abilities.effects.common.GainLifeEffect;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Event dispatch of triggered abilities by event type, see TriggeredAbilities.getAbilities
+ */
+public class TriggeredAbilitiesTest {
+
+    private static final UUID playerId = UUID.randomUUID();
+
+    private static void fire(TriggeredAbilities abilities, EventType... eventTypes) {
+        for (EventType eventType : eventTypes) {
+            // checkEventType of test abilities returns false, so game is not used
+            abilities.checkTriggers(GameEvent.getEvent(eventType, UUID.randomUUID(), playerId), null);
+        }
+    }
+
+    private static TriggeredAbilities serializeCopy(TriggeredAbilities abilities) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(data)) {
+            out.writeObject(abilities);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data.toByteArray()))) {
+            return (TriggeredAbilities) in.readObject();
+        }
+    }
+
+    @Test
+    public void testDispatchByEventType() {
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        TestAbility spellCast = new TestAbility(EnumSet.of(EventType.SPELL_CAST));
+        TestAbility drewCard = new TestAbility(EnumSet.of(EventType.DREW_CARD, EventType.SPELL_CAST));
+        abilities.put("spellCast", spellCast);
+        abilities.put("drewCard", drewCard);
+
+        fire(abilities, EventType.SPELL_CAST, EventType.DREW_CARD, EventType.LOST_CONTROL);
+
+        assertEquals(Arrays.asList(EventType.SPELL_CAST), spellCast.getChecked());
+        assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.DREW_CARD), drewCard.getChecked());
+    }
+
+    @Test
+    public void testUnknownEventTypesGetAllEvents() {
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        TestAbility nullTypes = new TestAbility((Set<EventType>) null);
+        TestAbilityWithoutTypes withoutTypes = new TestAbilityWithoutTypes();
+        abilities.put("nullTypes", nullTypes);
+        abilities.put("withoutTypes", withoutTypes);
+
+        fire(abilities, EventType.SPELL_CAST, EventType.DREW_CARD);
+
+        assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.DREW_CARD), nullTypes.getChecked());
+        assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.DREW_CARD), withoutTypes.getChecked());
+    }
+
+    @Test
+    public void testAddAndRemoveAfterDispatch() {
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        TestAbility first = new TestAbility(EnumSet.of(EventType.SPELL_CAST));
+        abilities.put("first", first);
+        fire(abilities, EventType.SPELL_CAST);
+
+        // added ability must get events of already indexed types
+        TestAbility second = new TestAbility(EnumSet.of(EventType.SPELL_CAST));
+        abilities.putIfAbsent("second", second);
+        fire(abilities, EventType.SPELL_CAST);
+        assertEquals(2, first.getChecked().size());
+        assertEquals(1, second.getChecked().size());
+
+        // replaced and removed abilities must not get events
+        TestAbility third = new TestAbility(EnumSet.of(EventType.SPELL_CAST));
+        abilities.put("second", third);
+        abilities.remove("first");
+        fire(abilities, EventType.SPELL_CAST);
+        assertEquals(2, first.getChecked().size());
+        assertEquals(1, second.getChecked().size());
+        assertEquals(1, third.getChecked().size());
+
+        abilities.clear();
+        fire(abilities, EventType.SPELL_CAST);
+        assertEquals(1, third.getChecked().size());
+
+        abilities.put("first", first);
+        fire(abilities, EventType.SPELL_CAST);
+        assertEquals(3, first.getChecked().size());
+    }
+
+    @Test
+    public void testRemoveAbilitiesOfSource() {
+        UUID sourceId = UUID.randomUUID();
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        TestAbility ability = new TestAbility(EnumSet.of(EventType.SPELL_CAST));
+        TestAbility otherAbility = new TestAbility(EnumSet.of(EventType.SPELL_CAST));
+        abilities.put(ability.getId() + "_" + sourceId, ability);
+        abilities.put(otherAbility.getId() + "_", otherAbility);
+        fire(abilities, EventType.SPELL_CAST);
+
+        abilities.removeAbilitiesOfSource(sourceId);
+        fire(abilities, EventType.SPELL_CAST);
+
+        assertEquals(1, ability.getChecked().size());
+        assertEquals(2, otherAbility.getChecked().size());
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("spellCast", new TestAbility(EnumSet.of(EventType.SPELL_CAST)));
+        abilities.put("nullTypes", new TestAbility((Set<EventType>) null));
+        fire(abilities, EventType.SPELL_CAST);
+
+        // copies must use own abilities (index is not copied)
+        for (TriggeredAbilities copy : Arrays.asList(abilities.copy(), serializeCopy(abilities))) {
+            TestAbility spellCast = (TestAbility) copy.get("spellCast");
+            TestAbility nullTypes = (TestAbility) copy.get("nullTypes");
+            assertNotSame(abilities.get("spellCast"), spellCast);
+
+            fire(copy, EventType.SPELL_CAST, EventType.DREW_CARD);
+
+            assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.SPELL_CAST), spellCast.getChecked());
+            assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.SPELL_CAST, EventType.DREW_CARD), nullTypes.getChecked());
+
+            copy.remove("spellCast");
+            fire(copy, EventType.SPELL_CAST);
+            assertEquals(2, spellCast.getChecked().size());
+        }
+        assertEquals(1, ((TestAbility) abilities.get("spellCast")).getChecked().size());
+    }
+
+    private static class TestAbility extends TriggeredAbilityImpl {
+
+        private final Set<EventType> eventTypes;
+        private final List<EventType> checked;
+
+        TestAbility(Set<EventType> eventTypes) {
+            super(Zone.BATTLEFIELD, new GainLifeEffect(1));
+            this.eventTypes = eventTypes;
+            this.checked = new ArrayList<>();
+        }
+
+        private TestAbility(final TestAbility ability) {
+            super(ability);
+            this.eventTypes = ability.eventTypes;
+            this.checked = new ArrayList<>(ability.checked);
+        }
+
+        @Override
+        public boolean checkEventType(GameEvent event, Game game) {
+            checked.add(event.getType());
+            return false;
+        }
+
+        @Override
+        public Set<EventType> getTriggerEventTypes() {
+            return eventTypes;
+        }
+
+        @Override
+        public boolean checkTrigger(GameEvent event, Game game) {
+            return false;
+        }
+
+        @Override
+        public TestAbility copy() {
+            return new TestAbility(this);
+        }
+
+        List<EventType> getChecked() {
+            return checked;
+        }
+    }
+
+    // overrides checkEventType only, so declared event types of the superclass can't be used
+    private static class TestAbilityWithoutTypes extends TestAbility {
+
+        TestAbilityWithoutTypes() {
+            super(EnumSet.of(EventType.LOST_CONTROL));
+        }
+
+        @Override
+        public boolean checkEventType(GameEvent event, Game game) {
+            return super.checkEventType(event, game);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package mage.abilities.mana;
+
+import mage.Mana;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Custom unit tests for {@link ManaOptions#removeFullyIncludedVariations()}
+ */
+public class ManaOptionsVariationsTest {
+
+    @Test
+    public void shouldRemoveIncludedVariations() {
+        // given
+        ManaOptions options = new ManaOptions();
+        options.add(new Mana(0, 0, 0, 1, 0, 0, 0, 0)); // {R}
+        options.add(new Mana(1, 0, 0, 1, 0, 0, 0, 0)); // {W}{R}
+        options.add(new Mana(0, 0, 0, 0, 1, 0, 0, 0)); // {G}
+        options.add(new Mana(0, 0, 0, 0, 0, 0, 1, 0)); // {Any}
+        options.add(new Mana(0, 0, 0, 0, 0, 0, 0, 1)); // {C}
+
+        // when
+        options.removeFullyIncludedVariations();
+
+        // then
+        // first kept option takes the more valuable mana: {R} -> {Any}, {G} and {Any} are removed
+        assertEquals("[{Any}, {R}{W}, {C}]", options.toString());
+    }
+
+    @Test
+    public void shouldKeepSameResultAsManaComparison() {
+        Random random = new Random(42);
+        for (int test = 0; test < 50; test++) {
+            // given
+            ManaOptions options = new ManaOptions();
+            List<Mana> expected = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                Mana mana = new Mana(random.nextInt(3), random.nextInt(3), random.nextInt(3), random.nextInt(3),
+                        random.nextInt(3), random.nextInt(2), random.nextInt(2), random.nextInt(2));
+                mana.setFlag(random.nextInt(4) == 0);
+                if (options.add(mana)) {
+                    expected.add(mana.copy());
+                }
+            }
+
+            // when
+            options.removeFullyIncludedVariations();
+
+            // then
+            assertEquals(removeWithManaComparison(expected).toString(), options.toString());
+        }
+    }
+
+    /**
+     * Reference implementation, compares options with {@link Mana#getMoreValuableMana(Mana, Mana)}
+     */
+    private static ManaOptions removeWithManaComparison(List<Mana> that) {
+        for (int i = that.size() - 1; i >= 0; i--) {
+            for (int ii = 0; ii < i; ii++) {
+                Mana moreValuable = Mana.getMoreValuableMana(that.get(i), that.get(ii));
+                if (moreValuable != null) {
+                    that.get(ii).setToMana(moreValuable);
+                    that.remove(i);
+                    break;
+                }
+            }
+        }
+        ManaOptions result = new ManaOptions();
+        result.addAll(that);
+        return result;
+    }
+}
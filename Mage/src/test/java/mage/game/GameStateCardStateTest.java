@@ -0,0 +1,111 @@
+package mage.game;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Custom unit tests for card states sharing between {@link GameState} copies
+ */
+public class GameStateCardStateTest {
+
+    @Test
+    public void shouldNotCreateStateOnRead() {
+        // given
+        GameState state = new GameState();
+        UUID cardId = UUID.randomUUID();
+
+        // when
+        CardState cardState = state.getCardStateReadOnly(cardId);
+
+        // then
+        assertNull(cardState);
+        assertNotNull(state.getCardState(cardId));
+        assertNotNull(state.getCardStateReadOnly(cardId));
+    }
+
+    @Test
+    public void shouldNotChangeSourceByCopy() {
+        // given
+        GameState state = new GameState();
+        UUID cardId = UUID.randomUUID();
+        state.getCardState(cardId).addInfo("info", "source");
+
+        // when
+        GameState copy = state.copy();
+        copy.getCardState(cardId).addInfo("info", "copy");
+        copy.getCardState(cardId).setFaceDown(true);
+
+        // then
+        assertEquals("source", state.getCardStateReadOnly(cardId).getInfo().get("info"));
+        assertFalse(state.getCardStateReadOnly(cardId).isFaceDown());
+        assertEquals("copy", copy.getCardStateReadOnly(cardId).getInfo().get("info"));
+        assertTrue(copy.getCardStateReadOnly(cardId).isFaceDown());
+    }
+
+    @Test
+    public void shouldNotChangeCopyBySource() {
+        // given
+        GameState state = new GameState();
+        UUID cardId = UUID.randomUUID();
+        state.getCardState(cardId).addInfo("info", "source");
+
+        // when
+        GameState copy = state.copy();
+        state.getCardState(cardId).addInfo("info", "changed");
+
+        // then
+        assertEquals("source", copy.getCardStateReadOnly(cardId).getInfo().get("info"));
+        assertEquals("changed", state.getCardStateReadOnly(cardId).getInfo().get("info"));
+    }
+
+    @Test
+    public void shouldShareUnchangedStatesWithCopies() {
+        // given
+        GameState state = new GameState();
+        UUID firstId = null;
+        UUID changedId = null;
+        for (int i = 0; i < 100; i++) {
+            // many changed states are merged to the shared part
+            changedId = UUID.randomUUID();
+            state.getCardState(changedId).addInfo("info", "state " + i);
+            if (firstId == null) {
+                firstId = changedId;
+            }
+        }
+        UUID cardId = changedId;
+
+        // when
+        GameState copy = state.copy();
+        GameState copyOfCopy = copy.copy();
+        copy.getCardState(cardId).addInfo("info", "copy");
+
+        // then
+        assertEquals("state 99", state.getCardStateReadOnly(cardId).getInfo().get("info"));
+        assertEquals("copy", copy.getCardStateReadOnly(cardId).getInfo().get("info"));
+        assertEquals("state 99", copyOfCopy.getCardStateReadOnly(cardId).getInfo().get("info"));
+        assertNotSame(state.getCardStateReadOnly(cardId), copy.getCardStateReadOnly(cardId));
+        assertSame("unchanged state must be shared", state.getCardStateReadOnly(firstId), copy.getCardStateReadOnly(firstId));
+        assertSame(state.getCardStateReadOnly(firstId), copyOfCopy.getCardStateReadOnly(firstId));
+    }
+
+    @Test
+    public void shouldClearStateOnZoneChangeInCopyOnly() {
+        // given
+        GameState state = new GameState();
+        UUID cardId = UUID.randomUUID();
+        state.getCardState(cardId).addInfo("info", "source");
+
+        // when
+        GameState copy = state.copy();
+        copy.updateZoneChangeCounter(cardId);
+
+        // then
+        assertEquals("source", state.getCardStateReadOnly(cardId).getInfo().get("info"));
+        assertTrue(copy.getCardStateReadOnly(cardId).getInfo().isEmpty());
+        assertEquals(1, state.getZoneChangeCounter(cardId));
+        assertEquals(2, copy.getZoneChangeCounter(cardId));
+    }
+}
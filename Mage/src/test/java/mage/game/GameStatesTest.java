@@ -0,0 +1,165 @@
+package mage.game;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Custom unit tests for {@link GameStates}
+ */
+public class GameStatesTest {
+
+    private static void saveStates(GameStates states, GameState state, int amount) {
+        for (int i = 0; i < amount; i++) {
+            state.setTurnNum(states.getSize());
+            state.setValue("test", "state " + states.getSize());
+            states.save(state);
+        }
+    }
+
+    private static void assertState(GameStates states, int index) {
+        GameState state = states.get(index);
+        assertNotNull("state " + index, state);
+        assertEquals(index, state.getTurnNum());
+        assertEquals("state " + index, state.getValue("test"));
+    }
+
+    @Test
+    public void shouldRestoreEncodedStates() {
+        // given
+        GameStates states = new GameStates();
+
+        // when
+        saveStates(states, new GameState(), 45);
+
+        // then
+        assertEquals(45, states.getSize());
+        assertEquals(0, states.getFirstIndex());
+        assertTrue(states.getUsedMemory() > 0);
+        for (int i = 0; i < 45; i++) {
+            assertState(states, i);
+        }
+        // replay back
+        for (int i = 44; i >= 0; i--) {
+            assertState(states, i);
+        }
+        // states are copies
+        assertNotSame(states.get(3), states.get(3));
+    }
+
+    @Test
+    public void shouldGetStatesInEncoding() {
+        // given
+        GameStates states = new GameStates();
+
+        // when
+        saveStates(states, new GameState(), 30);
+
+        // then
+        // states can be in encoding or encoded, both must return same data
+        for (int i = 0; i < 30; i++) {
+            assertState(states, i);
+        }
+        states.waitEncoded();
+        for (int i = 0; i < 30; i++) {
+            assertState(states, i);
+        }
+    }
+
+    @Test
+    public void shouldDropOldestGroupsByMemoryLimit() {
+        // given
+        GameStates allStates = new GameStates();
+        saveStates(allStates, new GameState(), 45);
+        long maxMemory = allStates.getUsedMemory() / 2;
+        GameStates states = new GameStates(maxMemory);
+
+        // when
+        saveStates(states, new GameState(), 45);
+
+        // then
+        assertEquals(45, states.getSize());
+        assertTrue(states.getUsedMemory() <= maxMemory);
+        assertTrue(states.getFirstIndex() > 0);
+        assertEquals("whole keyframe groups must be dropped", 0, states.getFirstIndex() % 10);
+        assertNull(states.get(states.getFirstIndex() - 1));
+        assertNull(states.rollback(states.getFirstIndex() - 1));
+        for (int i = states.getFirstIndex(); i < 45; i++) {
+            assertState(states, i);
+        }
+    }
+
+    @Test
+    public void shouldKeepNewestStatesWithSmallMemoryLimit() {
+        // given
+        GameStates states = new GameStates(1);
+
+        // when
+        saveStates(states, new GameState(), 45);
+        states.waitEncoded();
+
+        // then
+        assertEquals(45, states.getSize());
+        assertEquals(35, states.getFirstIndex());
+        for (int i = 35; i < 45; i++) {
+            assertState(states, i);
+        }
+    }
+
+    @Test
+    public void shouldKeepAllStatesWithoutLimit() {
+        // given
+        GameStates states = new GameStates(1);
+        saveStates(states, new GameState(), 25);
+
+        // when
+        states.setMaxMemory(0);
+        saveStates(states, new GameState(), 100);
+
+        // then
+        int first = states.getFirstIndex();
+        assertEquals(125, states.getSize());
+        assertState(states, first);
+        assertState(states, 124);
+    }
+
+    @Test
+    public void shouldRollbackToEncodedState() {
+        // given
+        GameStates states = new GameStates();
+        GameState state = new GameState();
+        saveStates(states, state, 30);
+
+        // when
+        GameState restored = states.rollback(13);
+        saveStates(states, state, 20);
+
+        // then
+        assertNotNull(restored);
+        assertEquals(13, restored.getTurnNum());
+        assertEquals(34, states.getSize());
+        for (int i = 0; i < 34; i++) {
+            assertState(states, i);
+        }
+    }
+
+    @Test
+    public void shouldRemoveStates() {
+        // given
+        GameStates states = new GameStates();
+        GameState state = new GameState();
+        saveStates(states, state, 25);
+
+        // when
+        states.remove(12);
+        saveStates(states, state, 5);
+
+        // then
+        assertEquals(17, states.getSize());
+        for (int i = 0; i < 17; i++) {
+            assertState(states, i);
+        }
+        states.remove(0);
+        assertEquals(0, states.getSize());
+    }
+}
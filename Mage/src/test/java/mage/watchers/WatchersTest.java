@@ -0,0 +1,161 @@
+package mage.watchers;
+
+import mage.constants.WatcherScope;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Event dispatch of watchers by event type, see Watchers.getWatchers
+ */
+public class WatchersTest {
+
+    private static final UUID playerId = UUID.randomUUID();
+
+    private static void fire(Watchers watchers, EventType... eventTypes) {
+        for (EventType eventType : eventTypes) {
+            // test watchers don't use the game
+            watchers.watch(GameEvent.getEvent(eventType, UUID.randomUUID(), playerId), null);
+        }
+    }
+
+    private static Watchers serializeCopy(Watchers watchers) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(data)) {
+            out.writeObject(watchers);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data.toByteArray()))) {
+            return (Watchers) in.readObject();
+        }
+    }
+
+    @Test
+    public void testDispatchByEventType() {
+        Watchers watchers = new Watchers();
+        TestWatcher spellCast = new TestWatcher(EnumSet.of(EventType.SPELL_CAST));
+        TestWatcher drewCard = new TestWatcher(EnumSet.of(EventType.DREW_CARD, EventType.SPELL_CAST));
+        watchers.put("spellCast", spellCast);
+        watchers.put("drewCard", drewCard);
+
+        fire(watchers, EventType.SPELL_CAST, EventType.DREW_CARD, EventType.LOST_CONTROL);
+
+        assertEquals(Arrays.asList(EventType.SPELL_CAST), spellCast.getWatched());
+        assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.DREW_CARD), drewCard.getWatched());
+    }
+
+    @Test
+    public void testUnknownEventTypesGetAllEvents() {
+        Watchers watchers = new Watchers();
+        TestWatcher nullTypes = new TestWatcher(null);
+        TestWatcherWithoutTypes withoutTypes = new TestWatcherWithoutTypes();
+        watchers.put("nullTypes", nullTypes);
+        watchers.add(withoutTypes);
+
+        fire(watchers, EventType.SPELL_CAST, EventType.DREW_CARD);
+
+        assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.DREW_CARD), nullTypes.getWatched());
+        assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.DREW_CARD), withoutTypes.getWatched());
+    }
+
+    @Test
+    public void testAddAndRemoveAfterDispatch() {
+        Watchers watchers = new Watchers();
+        TestWatcher first = new TestWatcher(EnumSet.of(EventType.SPELL_CAST));
+        watchers.put("first", first);
+        fire(watchers, EventType.SPELL_CAST);
+
+        // added watcher must get events of already indexed types, existing key keeps the old watcher
+        TestWatcher second = new TestWatcher(EnumSet.of(EventType.SPELL_CAST));
+        watchers.putIfAbsent("second", second);
+        watchers.putIfAbsent("first", new TestWatcher(EnumSet.of(EventType.SPELL_CAST)));
+        fire(watchers, EventType.SPELL_CAST);
+        assertEquals(2, first.getWatched().size());
+        assertEquals(1, second.getWatched().size());
+
+        // replaced and removed watchers must not get events
+        TestWatcher third = new TestWatcher(EnumSet.of(EventType.SPELL_CAST));
+        watchers.put("second", third);
+        watchers.remove("first");
+        fire(watchers, EventType.SPELL_CAST);
+        assertEquals(2, first.getWatched().size());
+        assertEquals(1, second.getWatched().size());
+        assertEquals(1, third.getWatched().size());
+
+        watchers.clear();
+        fire(watchers, EventType.SPELL_CAST);
+        assertEquals(1, third.getWatched().size());
+
+        watchers.put("first", first);
+        fire(watchers, EventType.SPELL_CAST);
+        assertEquals(3, first.getWatched().size());
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        Watchers watchers = new Watchers();
+        watchers.put("spellCast", new TestWatcher(EnumSet.of(EventType.SPELL_CAST)));
+        watchers.put("nullTypes", new TestWatcher(null));
+        fire(watchers, EventType.SPELL_CAST);
+
+        // copies must use own watchers (index is not copied)
+        for (Watchers copy : Arrays.asList(watchers.copy(), serializeCopy(watchers))) {
+            TestWatcher spellCast = (TestWatcher) copy.get("spellCast");
+            TestWatcher nullTypes = (TestWatcher) copy.get("nullTypes");
+            assertNotSame(watchers.get("spellCast"), spellCast);
+
+            fire(copy, EventType.SPELL_CAST, EventType.DREW_CARD);
+
+            assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.SPELL_CAST), spellCast.getWatched());
+            assertEquals(Arrays.asList(EventType.SPELL_CAST, EventType.SPELL_CAST, EventType.DREW_CARD), nullTypes.getWatched());
+
+            copy.remove("spellCast");
+            fire(copy, EventType.SPELL_CAST);
+            assertEquals(2, spellCast.getWatched().size());
+        }
+        assertEquals(1, ((TestWatcher) watchers.get("spellCast")).getWatched().size());
+    }
+
+    private static class TestWatcher extends Watcher {
+
+        private final EnumSet<EventType> eventTypes;
+        private final List<EventType> watched = new ArrayList<>();
+
+        TestWatcher(EnumSet<EventType> eventTypes) {
+            super(WatcherScope.GAME);
+            this.eventTypes = eventTypes;
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            watched.add(event.getType());
+        }
+
+        @Override
+        public Set<EventType> getWatchedEventTypes() {
+            return eventTypes;
+        }
+
+        List<EventType> getWatched() {
+            return watched;
+        }
+    }
+
+    // overrides watch only, so declared event types of the superclass can't be used
+    private static class TestWatcherWithoutTypes extends TestWatcher {
+
+        TestWatcherWithoutTypes() {
+            super(EnumSet.of(EventType.LOST_CONTROL));
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            super.watch(event, game);
+        }
+    }
+}